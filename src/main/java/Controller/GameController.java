@@ -1,42 +1,44 @@
 package Controller;
 
-import Data.ClearRow;
 import Data.DownData;
 import Data.MoveEvent;
 import Data.ViewData;
 import Model.Board;
-import Model.SimpleBoard;
+import Model.BoardBackend;
+import Model.BoardQueryCache;
+import Model.GameEngine;
 import com.comp2042.*;
 import Utilities.GameConstants;
-import Model.HoldManager;
 import com.comp2042.logic.bricks.Brick;
-import java.util.List;
+import com.comp2042.logic.bricks.BrickGenerator;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
 import Model.HighScoreManager;
-import Model.LevelManager;
+import Model.LockResult;
 import Model.GameMode;
-import Model.PieceHistoryTracker;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 
 
 /**
  * Main game controller
- * Handles game logic and user inputs
- * Act as middle person between GUI and game model
+ * Feeds user inputs to the headless GameEngine, which owns the game rules,
+ * and mirrors the results onto the GUI
  */
 
 public class GameController implements InputEventListener {
 
-    private Board board = new SimpleBoard(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH);
+    private final GameEngine engine;
 
-    private final GuiController viewGuiController;
+    private final Board board;
 
-    private final HoldManager holdManager = new HoldManager();
+    private final BoardQueryCache queries;
 
-    private final LevelManager levelManager = new LevelManager();
+    private final GuiController viewGuiController;
 
-    private GameMode gameMode = GameMode.ZEN;
+    private final GameMode gameMode;
 
-    private PieceHistoryTracker pieceHistoryTracker;
+    /** Mirrors the engine score for the score label binding */
+    private final IntegerProperty scoreProperty = new SimpleIntegerProperty(0);
 
     /**
      * Constructs a new GameController and initializes the game.
@@ -44,27 +46,78 @@ public class GameController implements InputEventListener {
      */
 
     public GameController(GuiController c) {
+        this(c, BoardBackend.SIMPLE);
+    }
+
+    /**
+     * Constructs a new GameController backed by the given board storage.
+     *
+     * @param c the GUI controller to drive
+     * @param backend the board backend to use
+     */
+    public GameController(GuiController c, BoardBackend backend) {
+        this(c, backend, GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH);
+    }
+
+    /**
+     * Constructs a new GameController with a board size chosen for this session.
+     * The backend is picked from the size.
+     *
+     * @param c the GUI controller to drive
+     * @param height number of board rows, hidden spawn rows included
+     * @param width number of board columns
+     */
+    public GameController(GuiController c, int height, int width) {
+        this(c, BoardBackend.forSize(height, width), height, width);
+    }
+
+    /**
+     * Constructs a new GameController backed by the given board storage and size.
+     *
+     * @param c the GUI controller to drive
+     * @param backend the board backend to use
+     * @param height number of board rows, hidden spawn rows included
+     * @param width number of board columns
+     */
+    public GameController(GuiController c, BoardBackend backend, int height, int width) {
+        this(c, backend, height, width, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new GameController with a chosen brick source, for example a
+     * seeded generator so the session can be replayed.
+     *
+     * @param c the GUI controller to drive
+     * @param backend the board backend to use
+     * @param height number of board rows, hidden spawn rows included
+     * @param width number of board columns
+     * @param brickGenerator source of the bricks
+     */
+    public GameController(GuiController c, BoardBackend backend, int height, int width, BrickGenerator brickGenerator) {
         viewGuiController = c;
         gameMode = c.getGameMode();
-
-        if (gameMode == GameMode.CHAOS) {
-            pieceHistoryTracker = new PieceHistoryTracker(6);
-            viewGuiController.setPieceHistoryTracker(pieceHistoryTracker);
+        engine = new GameEngine(gameMode, backend.create(height, width, brickGenerator));
+        board = engine.getBoard();
+        queries = engine.getQueries();
+        board.getScore().setOnChange(scoreProperty::set);
+        engine.setOnTimeUp(viewGuiController::gameOver);
+        engine.setOnLock(this::showLockResult);
+
+        if (engine.getPieceHistoryTracker() != null) {
+            viewGuiController.setPieceHistoryTracker(engine.getPieceHistoryTracker());
         }
 
-        board.createNewBrick();
         viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
+        viewGuiController.initGameView(board.getBoardMatrix(), queries.getViewData());
+        viewGuiController.bindScore(scoreProperty);
         updateNextPiecesDisplay();
         int highScore = HighScoreManager.getInstance().getHighScore(gameMode);
         viewGuiController.updateHighScoreDisplay(highScore);
 
-        viewGuiController.updateLevelDisplay(levelManager.getCurrentLevel());
-        viewGuiController.updateLinesDisplay(levelManager.getTotalLinesCleared());
+        viewGuiController.updateLevelDisplay(engine.getLevelManager().getCurrentLevel());
+        viewGuiController.updateLinesDisplay(engine.getLevelManager().getTotalLinesCleared());
 
-        viewGuiController.updateGameSpeed(gameMode.getBaseSpeed());
-        viewGuiController.initTimer();
+        viewGuiController.initTimer(engine.getTimer());
     }
 
     /**
@@ -77,65 +130,31 @@ public class GameController implements InputEventListener {
 
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        if (!canMove) {
-            if (gameMode == GameMode.CHAOS && pieceHistoryTracker != null) {
-                trackCurrentPieceBeforeMerge();
-                board.mergeBrickToBackground();
-            }
-
-            board.mergeBrickToBackground();
-            holdManager.resetHoldLock();
-            clearRow = board.clearRows();
-
-            if (clearRow.getLinesRemoved() > 0) {
-                board.getScore().add(clearRow.getScoreBonus());
-                checkHighScore();
-
-                if (gameMode == GameMode.ZEN) {
-                    boolean leveledUp = levelManager.addLines(clearRow.getLinesRemoved());
-                    viewGuiController.updateLinesDisplay(levelManager.getTotalLinesCleared());
-
-                if (leveledUp) {
-                    int newLevel = levelManager.getCurrentLevel();
-                    int newSpeed = levelManager.getFallSpeed();
-                    viewGuiController.updateLevelDisplay(newLevel);
-                    viewGuiController.updateGameSpeed(newSpeed);
-                    viewGuiController.showLevelUpNotification(newLevel);
-                }
-
-                } else {
-                    // Other modes: just update line count without leveling up
-                    levelManager.addLines(clearRow.getLinesRemoved());
-                    viewGuiController.updateLinesDisplay(levelManager.getTotalLinesCleared());
-                }
-
-                // Sprint Winning Condition
-                if (gameMode == GameMode.SPRINT && levelManager.getTotalLinesCleared() >= 10) {
-                    viewGuiController.sprintComplete();
-                    return new DownData(clearRow, board.getViewData());
-                }
-            }
+        LockResult result = engine.moveDown();
+        return new DownData(result == null ? null : result.getClearRow(), queries.getViewData());
+    }
 
-            // Checking Whether Game is Over
-            if (board.createNewBrick()) {
-                // Board is full - piece can't spawn
-                if (gameMode == GameMode.ZEN) {
-                    // Zen mode: clear board and continue
-                    board.clearBoard();
-                    board.createNewBrick();
-                    viewGuiController.refreshGameBackground(board.getBoardMatrix());
-                } else {
-                    // Other modes: game over
-                    viewGuiController.gameOver();
-                }
-            }
+    /**
+     * Called on every frame of the GUI loop.
+     * Lets the engine play out the gravity and timer ticks that are due.
+     */
+    public void onFrame() {
+        if (engine.update() > 0) {
+            viewGuiController.refreshBrick(queries.getViewData());
+        }
+    }
 
-            updateNextPiecesDisplay();
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
+    /**
+     * Pauses or resumes gravity and the mode timer.
+     *
+     * @param paused true to pause
+     */
+    public void setPaused(boolean paused) {
+        if (paused) {
+            engine.pause();
+        } else {
+            engine.resume();
         }
-        return new DownData(clearRow, board.getViewData());
     }
 
 
@@ -149,8 +168,8 @@ public class GameController implements InputEventListener {
 
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+        engine.moveLeft();
+        return queries.getViewData();
     }
 
     /**
@@ -161,8 +180,8 @@ public class GameController implements InputEventListener {
 
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+        engine.moveRight();
+        return queries.getViewData();
     }
 
     /**
@@ -173,8 +192,12 @@ public class GameController implements InputEventListener {
 
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+        switch (event.getEventType()) {
+            case ROTATE_CW -> engine.rotateClockwise();
+            case ROTATE_180 -> engine.rotate180();
+            default -> engine.rotateCounterClockwise();
+        }
+        return queries.getViewData();
     }
 
     /**
@@ -183,19 +206,13 @@ public class GameController implements InputEventListener {
 
     @Override
     public void createNewGame() {
-        board.newGame();
-        holdManager.clear();
-        levelManager.reset();
-
-        if (pieceHistoryTracker != null) {
-            pieceHistoryTracker.clear();
-        }
+        engine.newGame();
 
         viewGuiController.updateHoldDisplay(null);
         viewGuiController.updateLevelDisplay(1);
         viewGuiController.updateLinesDisplay(0);
-        viewGuiController.updateGameSpeed(gameMode.getBaseSpeed());
         viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        viewGuiController.initTimer(engine.getTimer());
     }
     /**
      * Gets the game board for ghost piece calculations.
@@ -206,119 +223,75 @@ public class GameController implements InputEventListener {
         return board;
     }
 
+    /**
+     * Gets the engine running this session.
+     *
+     * @return the headless game engine
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
     /**
      * Handles holding the current piece.
      * Swaps current piece with held piece, or stores it if first hold.
      */
     public void holdCurrentPiece() {
-        if (!holdManager.canHold()) {
+        if (!engine.hold()) {
             return;  // Already held this piece
         }
-
-        Brick currentBrick = board.getCurrentBrick();
-        Brick swappedBrick = holdManager.holdBrick(currentBrick);
-
-        if (swappedBrick == null) {
-            // First hold - get next brick
-            board.createNewBrick();
-            updateNextPiecesDisplay();
-        } else {
-            // Swap with held brick
-            board.setCurrentBrick(swappedBrick);
-        }
+        updateNextPiecesDisplay();
 
         // Update hold display
-        Brick heldBrick = holdManager.getHeldBrick();
+        Brick heldBrick = board.getHoldManager().getHeldBrick();
         if (heldBrick != null) {
-            viewGuiController.updateHoldDisplay(heldBrick.getShape());
+            viewGuiController.updateHoldDisplay(heldBrick.getRotation(0));
         }
 
         // Refresh view
         viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        viewGuiController.refreshBrick(board.getViewData());
+        viewGuiController.refreshBrick(queries.getViewData());
     }
     /**
      * Performs a hard drop of the current piece.
      * Instantly drops the piece to the ghost position and locks it.
      */
     public void hardDropPiece() {
-        int dropDistance = 0;
-
-        while (board.moveBrickDown()) {
-            dropDistance++;
-        }
-
-        if (dropDistance > 0) {
-            board.getScore().add(dropDistance * 2);
-            if (gameMode == GameMode.CHAOS && pieceHistoryTracker != null) {
-                trackCurrentPieceBeforeMerge();
-        }
-
-        board.mergeBrickToBackground();
-        }
-
-        holdManager.resetHoldLock();
+        engine.hardDrop();
+        viewGuiController.refreshBrick(queries.getViewData());
+    }
 
-        ClearRow clearRow = board.clearRows();
-        if (clearRow.getLinesRemoved() > 0) {
-            board.getScore().add(clearRow.getScoreBonus());
+    /**
+     * Updates the GUI once from the result of a lock, whichever way the brick locked.
+     *
+     * @param result the engine's lock result
+     */
+    private void showLockResult(LockResult result) {
+        if (result.getLinesCleared() > 0) {
+            viewGuiController.showScoreBonus(result.getClearRow().getScoreBonus());
             checkHighScore();
-
-            // Handle level progression
-            if (gameMode == GameMode.ZEN) {
-            boolean leveledUp = levelManager.addLines(clearRow.getLinesRemoved());
-            viewGuiController.updateLinesDisplay(levelManager.getTotalLinesCleared());
-
-            if (leveledUp) {
-                int newLevel = levelManager.getCurrentLevel();
-                int newSpeed = levelManager.getFallSpeed();
-                viewGuiController.updateLevelDisplay(newLevel);
-                viewGuiController.updateGameSpeed(newSpeed);
-                viewGuiController.showLevelUpNotification(newLevel);
-            }
-
-            } else {
-                // If it is other modes, just update line cleared without levelling up
-                levelManager.addLines(clearRow.getLinesRemoved());
-                viewGuiController.updateLinesDisplay(levelManager.getTotalLinesCleared());
-            }
-
-            // Check Sprint win condition
-            if (gameMode == GameMode.SPRINT && levelManager.getTotalLinesCleared() >= 20) {
-                viewGuiController.sprintComplete();
-                return;
+            viewGuiController.updateLinesDisplay(engine.getLevelManager().getTotalLinesCleared());
+            if (result.isLeveledUp()) {
+                viewGuiController.updateLevelDisplay(result.getLevel());
+                viewGuiController.showLevelUpNotification(result.getLevel());
             }
-
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
         }
 
-        // Check game over or continue
-        if (board.createNewBrick()) {
-            // Board is full - piece can't spawn
-            if (gameMode == GameMode.ZEN) {
-                // Zen mode: clear board and continue
-                board.clearBoard();
-                board.createNewBrick();
-                viewGuiController.refreshGameBackground(board.getBoardMatrix());
-            } else {
-                // Other modes: game over
+        if (result.isGoalReached()) {
+            viewGuiController.sprintComplete();
+        } else {
+            if (result.isToppedOut()) {
                 viewGuiController.gameOver();
             }
+            updateNextPiecesDisplay();
         }
-        updateNextPiecesDisplay();
         viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        viewGuiController.refreshBrick(board.getViewData());
     }
     /**
      * Updates the next pieces preview display.
      */
     private void updateNextPiecesDisplay() {
-        if (board.getBrickGenerator() instanceof RandomBrickGenerator) {
-            RandomBrickGenerator generator = (RandomBrickGenerator) board.getBrickGenerator();
-            int previewCount = gameMode.getPreviewCount();
-            List<Brick> nextBricks = generator.getNextBricks(5);
-            viewGuiController.updateNextPanels(nextBricks);
-        }
+        viewGuiController.updateNextPanels(queries.getNextShapes(5));
     }
 
     /**
@@ -326,7 +299,7 @@ public class GameController implements InputEventListener {
      * Shows notification if new high score achieved.
      */
     private void checkHighScore() {
-        int currentScore = board.getScore().scoreProperty().get();
+        int currentScore = engine.getScore();
 
         // ✅ CHANGED THIS - Check high score for current mode
         boolean isNewHighScore = HighScoreManager.getInstance().checkAndUpdateHighScore(gameMode, currentScore);
@@ -336,38 +309,4 @@ public class GameController implements InputEventListener {
             viewGuiController.updateHighScoreDisplay(currentScore);
         }
     }
-
-    /**
-     * Tracks the current piece positions before it merges to background.
-     * This must be called before mergeBrickToBackground().
-     * There was an error where it was recalled after leading to error.
-     */
-    private void trackCurrentPieceBeforeMerge() {
-        ViewData currentPiece = board.getViewData();
-        int[][] shape = currentPiece.getBrickData();
-        int xPos = currentPiece.getxPosition();
-        int yPos = currentPiece.getyPosition();
-
-        java.util.List<int[]> positions = new java.util.ArrayList<>();
-
-        // Get the actual board positions where this piece will land
-        for (int i = 0; i < shape.length; i++) {
-            for (int j = 0; j < shape[i].length; j++) {
-                if (shape[i][j] != 0) {
-                    int boardRow = yPos + i;
-                    int boardCol = xPos + j;
-                    positions.add(new int[]{boardRow, boardCol});
-                }
-            }
-        }
-
-        System.out.println("🎯 Chaos: Tracking piece with " + positions.size() + " blocks at position (" + xPos + "," + yPos + ")");
-
-        // Add to tracker
-        if (!positions.isEmpty()) {
-            int[][] posArray = positions.toArray(new int[0][]);
-            pieceHistoryTracker.addPiece(posArray);
-            System.out.println("✅ Chaos: Total pieces tracked: " + pieceHistoryTracker.getRecentPiecesCount());
-        }
-    }
 }
@@ -12,6 +12,7 @@ import javafx.animation.Timeline;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
@@ -23,17 +24,16 @@ import javafx.scene.effect.Reflection;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.util.Duration;
 import Utilities.GameConstants;
-import Utilities.GhostPieceCalculator;
-import java.awt.Point;
 import java.net.URL;
 import java.util.List;
 import java.util.ResourceBundle;
-import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
 import Model.GameMode;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -57,6 +57,12 @@ public class GuiController implements Initializable {
 
     private static final int BRICK_SIZE = GameConstants.BRICK_SIZE;
 
+    @FXML
+    private Pane rootPane;
+
+    @FXML
+    private VBox sidePanel;
+
     @FXML
     private GridPane gamePanel;
 
@@ -105,9 +111,12 @@ public class GuiController implements Initializable {
     @FXML
     private Label linesLabel;
 
-    @FXML
+    /** Sprint or Blitz timer of the engine, null in untimed modes */
     private GameTimer gameTimer;
 
+    /** Mirrors the timer seconds for the timer label binding */
+    private final IntegerProperty timerSeconds = new SimpleIntegerProperty();
+
     @FXML
     private VBox timerContainer;
 
@@ -204,6 +213,18 @@ public class GuiController implements Initializable {
                         refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
                         keyEvent.consume();
                     }
+                    if (keyEvent.getCode() == KeyCode.X) {
+                        refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_CW, EventSource.USER)));
+                        keyEvent.consume();
+                    }
+                    if (keyEvent.getCode() == KeyCode.Z) {
+                        refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_CCW, EventSource.USER)));
+                        keyEvent.consume();
+                    }
+                    if (keyEvent.getCode() == KeyCode.C) {
+                        refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_180, EventSource.USER)));
+                        keyEvent.consume();
+                    }
                     if (keyEvent.getCode() == KeyCode.DOWN || keyEvent.getCode() == KeyCode.S) {
                         moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
                         keyEvent.consume();
@@ -240,6 +261,22 @@ public class GuiController implements Initializable {
         reflection.setTopOffset(-12);
     }
 
+    /**
+     * Moves the side panel and grows the window when the session board is
+     * larger than the classic board the layout was drawn for.
+     *
+     * @param rows number of board rows, hidden rows included
+     * @param cols number of board columns
+     */
+    private void fitLayoutToBoard(int rows, int cols) {
+        int cellPitch = BRICK_SIZE + 1;
+        int extraWidth = Math.max(0, cols - GameConstants.BOARD_WIDTH) * cellPitch;
+        int extraHeight = Math.max(0, rows - GameConstants.BOARD_HEIGHT) * cellPitch;
+        sidePanel.setLayoutX(sidePanel.getLayoutX() + extraWidth);
+        rootPane.setPrefWidth(rootPane.getPrefWidth() + extraWidth);
+        rootPane.setPrefHeight(rootPane.getPrefHeight() + extraHeight);
+    }
+
     /**
      * Initializes the game view with board and brick displays.
      * Sets up the display matrix, brick preview, and game loop.
@@ -249,21 +286,22 @@ public class GuiController implements Initializable {
      */
 
     public void initGameView(int[][] boardMatrix, ViewData brick) {
+        fitLayoutToBoard(boardMatrix.length, boardMatrix[0].length);
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
+        for (int i = GameConstants.HIDDEN_ROWS; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
                 rectangle.setFill(Color.TRANSPARENT);
                 displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2);
+                gamePanel.add(rectangle, j, i - GameConstants.HIDDEN_ROWS);
             }
         }
 
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        rectangles = new Rectangle[brick.height()][brick.width()];
+        for (int i = 0; i < brick.height(); i++) {
+            for (int j = 0; j < brick.width(); j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(ColorManager.getFillColor(brick.getBrickData()[i][j]));
+                rectangle.setFill(ColorManager.getFillColor(brick.cell(i, j)));
                 rectangles[i][j] = rectangle;
                 brickPanel.add(rectangle, j, i);
             }
@@ -271,9 +309,9 @@ public class GuiController implements Initializable {
         brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
         brickPanel.setLayoutY(GameConstants.VERTICAL_OFFSET + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * BRICK_SIZE);
 
-        ghostRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        ghostRectangles = new Rectangle[brick.height()][brick.width()];
+        for (int i = 0; i < brick.height(); i++) {
+            for (int j = 0; j < brick.width(); j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
                 rectangle.setFill(Color.TRANSPARENT);
                 rectangle.setOpacity(0.3);  // Semi-transparent ghost
@@ -282,28 +320,38 @@ public class GuiController implements Initializable {
             }
         }
 
-        updateGhostPosition(brick, boardMatrix);
+        updateGhostPosition(brick);
 
         timeLine = new Timeline(new KeyFrame(
-                Duration.millis(GameConstants.FALL_SPEED_MS),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
+                Duration.millis(GameConstants.FRAME_MS),
+                ae -> advanceFrame()
         ));
         timeLine.setCycleCount(Timeline.INDEFINITE);
         timeLine.play();
     }
 
+    /**
+     * One pulse of the game loop. Gravity and the mode timer live in the engine,
+     * which catches up on whatever came due since the last frame.
+     */
+    private void advanceFrame() {
+        if (!isPause.getValue() && !isGameOver.getValue() && eventListener instanceof GameController) {
+            ((GameController) eventListener).onFrame();
+        }
+    }
+
 
     public void refreshBrick(ViewData brick) {
         if (!isPause.getValue()) {
             brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
             brickPanel.setLayoutY(GameConstants.VERTICAL_OFFSET + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * BRICK_SIZE);
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
+            for (int i = 0; i < brick.height(); i++) {
+                for (int j = 0; j < brick.width(); j++) {
+                    setRectangleData(brick.cell(i, j), rectangles[i][j]);
                 }
             }
             /** Update ghost block when moving */
-            updateGhostPosition(brick, getCurrentBoard());
+            updateGhostPosition(brick);
         }
     }
 
@@ -319,7 +367,7 @@ public class GuiController implements Initializable {
             System.out.println("🌪️ Chaos Mode: Rendering with " + pieceHistoryTracker.getRecentPiecesCount() + " tracked pieces");
         }
 
-        for (int i = 2; i < board.length; i++) {
+        for (int i = GameConstants.HIDDEN_ROWS; i < board.length; i++) {
             for (int j = 0; j < board[i].length; j++) {
                 if (currentGameMode == GameMode.CHAOS && pieceHistoryTracker != null) {
                     if (board[i][j] != 0) {
@@ -365,16 +413,22 @@ public class GuiController implements Initializable {
     private void moveDown(MoveEvent event) {
         if (!isPause.getValue()) {
             DownData downData = eventListener.onDownEvent(event);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
-            }
             refreshBrick(downData.getViewData());
         }
         gamePanel.requestFocus();
     }
 
+    /**
+     * Shows the points a line clear earned.
+     *
+     * @param scoreBonus points for the cleared lines
+     */
+    public void showScoreBonus(int scoreBonus) {
+        NotificationPanel notificationPanel = new NotificationPanel("+" + scoreBonus);
+        groupNotification.getChildren().add(notificationPanel);
+        notificationPanel.showScore(groupNotification.getChildren());
+    }
+
     /**
      * Sets the input event listener for game interactions.
      *
@@ -403,7 +457,6 @@ public class GuiController implements Initializable {
 
     public void gameOver() {
         timeLine.stop();
-        stopTimer();
         gameOverPanel.setVisible(true);
         isGameOver.setValue(Boolean.TRUE);
     }
@@ -417,12 +470,10 @@ public class GuiController implements Initializable {
 
     public void newGame(ActionEvent actionEvent) {
         timeLine.stop();
-        stopTimer();
         gameOverPanel.setVisible(false);
         eventListener.createNewGame();
         gamePanel.requestFocus();
         timeLine.play();
-        initTimer();
         isPause.setValue(Boolean.FALSE);
         isGameOver.setValue(Boolean.FALSE);
         pauseButton.setText("Pause");
@@ -454,28 +505,23 @@ public class GuiController implements Initializable {
      * Updates the ghost piece position and appearance.
      * Shows semi-transparent preview of where the brick will land.
      *
-     * @param brick       current brick view data
-     * @param boardMatrix current game board state
+     * @param brick current brick view data, including its landing row
      */
-    private void updateGhostPosition(ViewData brick, int[][] boardMatrix) {
+    private void updateGhostPosition(ViewData brick) {
         if (!isPause.getValue()) {
-            // Calculate where brick will land
-            Point ghostPos = GhostPieceCalculator.calculateGhostPosition(
-                    boardMatrix,
-                    brick.getBrickData(),
-                    brick.getxPosition(),
-                    brick.getyPosition()
-            );
+            int ghostX = brick.getxPosition();
+            int ghostY = brick.getGhostYPosition();
 
             // Position the ghost panel
-            ghostPanel.setLayoutX(gamePanel.getLayoutX() + ghostPos.x * ghostPanel.getVgap() + ghostPos.x * BRICK_SIZE);
-            ghostPanel.setLayoutY(GameConstants.VERTICAL_OFFSET + gamePanel.getLayoutY() + ghostPos.y * ghostPanel.getHgap() + ghostPos.y * BRICK_SIZE);
+            ghostPanel.setLayoutX(gamePanel.getLayoutX() + ghostX * ghostPanel.getVgap() + ghostX * BRICK_SIZE);
+            ghostPanel.setLayoutY(GameConstants.VERTICAL_OFFSET + gamePanel.getLayoutY() + ghostY * ghostPanel.getHgap() + ghostY * BRICK_SIZE);
 
             // Update ghost rectangles to match current brick shape
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    if (brick.getBrickData()[i][j] != 0) {
-                        ghostRectangles[i][j].setFill(ColorManager.getFillColor(brick.getBrickData()[i][j]));
+            for (int i = 0; i < brick.height(); i++) {
+                for (int j = 0; j < brick.width(); j++) {
+                    int color = brick.cell(i, j);
+                    if (color != 0) {
+                        ghostRectangles[i][j].setFill(ColorManager.getFillColor(color));
                         ghostRectangles[i][j].setOpacity(0.3);  // 30% transparent
                         ghostRectangles[i][j].setArcHeight(9);
                         ghostRectangles[i][j].setArcWidth(9);
@@ -487,19 +533,6 @@ public class GuiController implements Initializable {
         }
     }
 
-    /**
-     * Gets the current game board matrix.
-     * Used for ghost piece calculation.
-     *
-     * @return the current board state
-     */
-    private int[][] getCurrentBoard() {
-        if (eventListener != null && eventListener instanceof GameController) {
-            return ((GameController) eventListener).getBoard().getBoardMatrix();
-        }
-        return new int[0][0];
-    }
-
     /**
      * Initializes the hold piece display panel.
      * Creates a 4x4 grid for displaying the held brick.
@@ -547,14 +580,9 @@ public class GuiController implements Initializable {
     /**
      * Updates all next piece preview displays.
      *
-     * @param nextBricks list of upcoming bricks to display
-     */
-    /**
-     * Updates all next piece preview displays.
-     *
-     * @param nextBricks list of upcoming bricks to display
+     * @param nextShapes spawn rotations of the upcoming bricks to display
      */
-    public void updateNextPanels(List<Brick> nextBricks) {
+    public void updateNextPanels(List<BrickShape> nextShapes) {
         GridPane[] panels = {nextPanel1, nextPanel2, nextPanel3, nextPanel4, nextPanel5};
 
         for (int panelIndex = 0; panelIndex < panels.length; panelIndex++) {
@@ -566,19 +594,14 @@ public class GuiController implements Initializable {
             }
 
             // Only draw if we have a brick for this position
-            if (panelIndex < nextBricks.size()) {
-                Brick brick = nextBricks.get(panelIndex);
-                int[][] brickData = brick.getShape();
+            if (panelIndex < nextShapes.size()) {
+                BrickShape shape = nextShapes.get(panelIndex);
 
                 // Draw brick
-                for (int i = 0; i < brickData.length; i++) {
-                    for (int j = 0; j < brickData[i].length; j++) {
-                        if (brickData[i][j] != 0) {
-                            nextPanelRectangles[panelIndex][i][j].setFill(
-                                    ColorManager.getFillColor(brickData[i][j])
-                            );
-                        }
-                    }
+                for (int i = 0; i < shape.cellCount(); i++) {
+                    nextPanelRectangles[panelIndex][shape.cellRow(i)][shape.cellCol(i)].setFill(
+                            ColorManager.getFillColor(shape.color())
+                    );
                 }
 
                 // Show the panel
@@ -598,9 +621,9 @@ public class GuiController implements Initializable {
     /**
      * Updates the hold panel display with the held brick.
      *
-     * @param brickData the brick shape to display (null to clear)
+     * @param shape the brick rotation to display (null to clear)
      */
-    public void updateHoldDisplay(int[][] brickData) {
+    public void updateHoldDisplay(BrickShape shape) {
         // Clear all rectangles first
         for (int i = 0; i < 4; i++) {
             for (int j = 0; j < 4; j++) {
@@ -609,13 +632,9 @@ public class GuiController implements Initializable {
         }
 
         // If there's a brick to display
-        if (brickData != null) {
-            for (int i = 0; i < brickData.length; i++) {
-                for (int j = 0; j < brickData[i].length; j++) {
-                    if (brickData[i][j] != 0) {
-                        holdRectangles[i][j].setFill(ColorManager.getFillColor(brickData[i][j]));
-                    }
-                }
+        if (shape != null) {
+            for (int i = 0; i < shape.cellCount(); i++) {
+                holdRectangles[shape.cellRow(i)][shape.cellCol(i)].setFill(ColorManager.getFillColor(shape.color()));
             }
         }
     }
@@ -690,23 +709,6 @@ public class GuiController implements Initializable {
         notification.showScore(groupNotification.getChildren());
     }
 
-    /**
-     * Updates the game speed.
-     *
-     * @param speedMs new fall speed in milliseconds
-     */
-    public void updateGameSpeed(int speedMs) {
-        if (timeLine != null) {
-            timeLine.stop();
-            timeLine = new Timeline(new KeyFrame(
-                    Duration.millis(speedMs),
-                    ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-            ));
-            timeLine.setCycleCount(Timeline.INDEFINITE);
-            timeLine.play();
-        }
-    }
-
     /**
      * Sets the game mode for this session.
      * Must be chosen before game starts.
@@ -754,67 +756,50 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Initializes the timer for time-based modes.
+     * Shows the engine's timer for time-based modes.
+     * The engine ticks it from its clock and ends a Blitz game itself when the countdown runs out.
+     *
+     * @param timer the engine timer, or null for untimed modes
      */
-    public void initTimer() {
-        if (currentGameMode == GameMode.SPRINT) {
-            // Sprint: count up
-            timerContainer.setVisible(true);
-            timerTitle.setText("TIME");
-            timerTitle.setStyle("-fx-font-size: 12px; -fx-font-weight: bold; -fx-text-fill: #2196F3;");
-            gameTimer = new GameTimer(false, 0);
-            timerLabel.textProperty().bind(
-                    gameTimer.secondsProperty().asString().map(s -> GameTimer.formatTime(Integer.parseInt(s)))
-            );
-            gameTimer.start();
+    public void initTimer(GameTimer timer) {
+        gameTimer = timer;
+        if (timer == null) {
+            // Zen/Chaos: no timer
+            timerContainer.setVisible(false);
+            return;
+        }
 
-        } else if (currentGameMode == GameMode.BLITZ) {
+        timerContainer.setVisible(true);
+        timerTitle.setText("TIME");
+        if (currentGameMode == GameMode.BLITZ) {
             // Blitz: count down from 2 minutes
-            timerContainer.setVisible(true);
-            timerTitle.setText("TIME");
             timerTitle.setStyle("-fx-font-size: 12px; -fx-font-weight: bold; -fx-text-fill: #FF9800;");
-            gameTimer = new GameTimer(true, 120);  // 120 seconds = 2 minutes
-            timerLabel.textProperty().bind(
-                    gameTimer.secondsProperty().asString().map(s -> GameTimer.formatTime(Integer.parseInt(s)))
-            );
-
-            // Set callback for when time runs out
-            gameTimer.setOnTimeUp(() -> {
-                gameOver();
-            });
-
-            gameTimer.start();
-
         } else {
-            // Zen/Chaos: no timer
-            timerContainer.setVisible(false);
+            // Sprint: count up
+            timerTitle.setStyle("-fx-font-size: 12px; -fx-font-weight: bold; -fx-text-fill: #2196F3;");
         }
+        timerSeconds.set(timer.getSeconds());
+        timer.setOnChange(timerSeconds::set);
+        timerLabel.textProperty().bind(
+                timerSeconds.asString().map(s -> GameTimer.formatTime(Integer.parseInt(s)))
+        );
     }
 
     /**
-     * Pauses the game timer.
+     * Pauses gravity and the game timer.
      */
     public void pauseTimer() {
-        if (gameTimer != null) {
-            gameTimer.pause();
+        if (eventListener instanceof GameController) {
+            ((GameController) eventListener).setPaused(true);
         }
     }
 
     /**
-     * Resumes the game timer.
+     * Resumes gravity and the game timer.
      */
     public void resumeTimer() {
-        if (gameTimer != null) {
-            gameTimer.resume();
-        }
-    }
-
-    /**
-     * Stops the game timer.
-     */
-    public void stopTimer() {
-        if (gameTimer != null) {
-            gameTimer.stop();
+        if (eventListener instanceof GameController) {
+            ((GameController) eventListener).setPaused(false);
         }
     }
 
@@ -824,7 +809,6 @@ public class GuiController implements Initializable {
      */
     public void sprintComplete() {
         timeLine.stop();
-        stopTimer();
 
         int finalTime = gameTimer != null ? gameTimer.getSeconds() : 0;
         String timeStr = GameTimer.formatTime(finalTime);
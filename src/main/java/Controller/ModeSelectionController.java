@@ -1,21 +1,47 @@
 package Controller;
 
+import Model.BoardSize;
 import Model.GameMode;
 import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Button;
 import javafx.stage.Stage;
 
 import java.io.IOException;
 
 /**
  * Controller for the mode selection screen.
- * Allows player to choose between different game modes.
+ * Allows player to choose between different game modes and the board size.
  */
 public class ModeSelectionController {
 
+    /** Board size picked for this session, kept when returning to the menu */
+    private static BoardSize boardSize = BoardSize.CLASSIC;
+
+    @FXML
+    private Button boardSizeButton;
+
+    @FXML
+    public void initialize() {
+        updateBoardSizeButton();
+    }
+
+    /**
+     * Switches to the next board size.
+     */
+    public void cycleBoardSize(ActionEvent event) {
+        boardSize = boardSize.next();
+        updateBoardSizeButton();
+    }
+
+    private void updateBoardSizeButton() {
+        boardSizeButton.setText("BOARD: " + boardSize.getLabel().toUpperCase());
+    }
+
     /**
      * Starts game in Zen mode.
      */
@@ -59,7 +85,7 @@ public class ModeSelectionController {
             guiController.setGameMode(mode);
 
             // Create GameController which will initialize the game
-            GameController gameController = new GameController(guiController);
+            GameController gameController = new GameController(guiController, boardSize.getHeight(), boardSize.getWidth());
 
             // Switch to game scene
             Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
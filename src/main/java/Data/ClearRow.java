@@ -1,16 +1,21 @@
 package Data;
 
-import Utilities.MatrixOperations;
-
+/**
+ * Result of a line clear.
+ * Reports which rows were removed; the board itself is compacted in place.
+ */
 public final class ClearRow {
 
+    /** Shared result for the common case where nothing was cleared */
+    public static final ClearRow NONE = new ClearRow(0, new int[0], 0);
+
     private final int linesRemoved;
-    private final int[][] newMatrix;
+    private final int[] clearedRows;
     private final int scoreBonus;
 
-    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+    public ClearRow(int linesRemoved, int[] clearedRows, int scoreBonus) {
         this.linesRemoved = linesRemoved;
-        this.newMatrix = newMatrix;
+        this.clearedRows = clearedRows;
         this.scoreBonus = scoreBonus;
     }
 
@@ -18,8 +23,15 @@ public final class ClearRow {
         return linesRemoved;
     }
 
-    public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
+    /**
+     * Gets the board row index of the i-th cleared line, in ascending order.
+     * Indices refer to the board as it was before the clear.
+     *
+     * @param index which cleared line, from 0 to getLinesRemoved() - 1
+     * @return the row index that was removed
+     */
+    public int getClearedRow(int index) {
+        return clearedRows[index];
     }
 
     public int getScoreBonus() {
@@ -1,19 +1,29 @@
 package Data;
 
-import Utilities.MatrixOperations;
+import com.comp2042.logic.bricks.BrickShape;
 
 public final class NextShapeInfo {
 
-    private final int[][] shape;
+    private final BrickShape shape;
     private final int position;
 
-    public NextShapeInfo(final int[][] shape, final int position) {
+    public NextShapeInfo(final BrickShape shape, final int position) {
         this.shape = shape;
         this.position = position;
     }
 
-    public int[][] getShape() {
-        return MatrixOperations.copy(shape);
+    /**
+     * Gets the shared, immutable rotation. No copy is made.
+     */
+    public BrickShape getShape() {
+        return shape;
+    }
+
+    /**
+     * Gets the colour code of one cell of the rotation, 0 when empty.
+     */
+    public int cell(int row, int col) {
+        return shape.cell(row, col);
     }
 
     public int getPosition() {
@@ -1,23 +1,77 @@
 package Data;
 
-import Utilities.MatrixOperations;
+import com.comp2042.logic.bricks.BrickShape;
 
+/**
+ * Snapshot of the falling brick for rendering.
+ * Holds the shared, immutable brick rotations, so renderers read cells
+ * through {@link #cell(int, int)} without copying any arrays.
+ */
 public final class ViewData {
 
-    private final int[][] brickData;
+    private final BrickShape brickShape;
     private final int xPosition;
     private final int yPosition;
-    private final int[][] nextBrickData;
+    private final int ghostYPosition;
+    private final BrickShape nextBrickShape;
 
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData) {
-        this.brickData = brickData;
+    public ViewData(BrickShape brickShape, int xPosition, int yPosition, int ghostYPosition, BrickShape nextBrickShape) {
+        this.brickShape = brickShape;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
-        this.nextBrickData = nextBrickData;
+        this.ghostYPosition = ghostYPosition;
+        this.nextBrickShape = nextBrickShape;
     }
 
+    /**
+     * Gets the colour code of one cell of the falling brick, 0 when empty.
+     *
+     * @param row local row inside the brick matrix
+     * @param col local column inside the brick matrix
+     * @return the colour code
+     */
+    public int cell(int row, int col) {
+        return brickShape.cell(row, col);
+    }
+
+    /**
+     * Gets the number of columns in the brick matrix.
+     */
+    public int width() {
+        return brickShape.size();
+    }
+
+    /**
+     * Gets the number of rows in the brick matrix.
+     */
+    public int height() {
+        return brickShape.size();
+    }
+
+    /**
+     * Gets the colour code of one cell of the next brick, 0 when empty.
+     *
+     * @param row local row inside the brick matrix
+     * @param col local column inside the brick matrix
+     * @return the colour code
+     */
+    public int nextCell(int row, int col) {
+        return nextBrickShape.cell(row, col);
+    }
+
+    /**
+     * Gets the shared rotation of the falling brick.
+     */
+    public BrickShape getBrickShape() {
+        return brickShape;
+    }
+
+    /**
+     * Gets a mutable copy of the falling brick matrix.
+     * Prefer {@link #cell(int, int)} when only reading.
+     */
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return brickShape.toMatrix();
     }
 
     public int getxPosition() {
@@ -28,7 +82,25 @@ public final class ViewData {
         return yPosition;
     }
 
+    /**
+     * Gets the vertical position where the brick would land if dropped.
+     */
+    public int getGhostYPosition() {
+        return ghostYPosition;
+    }
+
+    /**
+     * Gets the shared first rotation of the next brick.
+     */
+    public BrickShape getNextBrickShape() {
+        return nextBrickShape;
+    }
+
+    /**
+     * Gets a mutable copy of the next brick matrix.
+     * Prefer {@link #nextCell(int, int)} when only reading.
+     */
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return nextBrickShape.toMatrix();
     }
 }
@@ -0,0 +1,436 @@
+package Model;
+
+import Data.ClearRow;
+import Data.ViewData;
+import Utilities.GameConstants;
+import Utilities.GhostPieceCalculator;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Shared falling-brick logic for every board backend.
+ * Keeps the active brick, its rotation and position, the generator and the score,
+ * and leaves cell storage to subclasses through a few small hooks.
+ */
+public abstract class AbstractBoard implements Board {
+
+    protected final int width;
+    protected final int height;
+    /** Spawn column, the classic one on a standard board and centred on other widths */
+    private final int spawnX;
+    private BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final Score score;
+    private final HoldManager holdManager;
+    private final SurfaceProfile surfaceProfile;
+    private Brick currentBrick;
+    /** Position of the falling brick, kept as primitives so moves do not allocate */
+    private int currentX;
+    private int currentY;
+    /** Rows touched by the last lock, the only ones that can have become full */
+    private int lockedFromRow = -1;
+    private int lockedToRow = -1;
+    /** Bumped whenever settled cells change */
+    private long boardVersion;
+    /** Bumped whenever the falling brick moves, rotates or is replaced */
+    private long pieceVersion;
+
+    protected AbstractBoard(int height, int width) {
+        this(height, width, new RandomBrickGenerator());
+    }
+
+    /**
+     * @param height number of rows
+     * @param width number of columns
+     * @param brickGenerator source of the bricks, a seeded one makes games reproducible
+     */
+    protected AbstractBoard(int height, int width, BrickGenerator brickGenerator) {
+        if (width < GameConstants.MIN_BOARD_SIZE || height < GameConstants.MIN_BOARD_SIZE) {
+            throw new IllegalArgumentException("Board must be at least " + GameConstants.MIN_BOARD_SIZE
+                    + " cells on each side: " + height + "x" + width);
+        }
+        this.width = width;
+        this.height = height;
+        spawnX = spawnColumn(width);
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score();
+        holdManager = new HoldManager();
+        surfaceProfile = new SurfaceProfile(height, width);
+    }
+
+    /**
+     * Gets the column new bricks spawn at on a board of some width.
+     * The classic column on a standard board, centred on other widths.
+     *
+     * @param width number of board columns
+     * @return the spawn column
+     */
+    public static int spawnColumn(int width) {
+        int centred = GameConstants.INITIAL_BRICK_X + (width - GameConstants.BOARD_WIDTH) / 2;
+        return Math.max(0, Math.min(centred, width - GameConstants.MIN_BOARD_SIZE));
+    }
+
+    /**
+     * Checks whether a brick rotation collides with the walls, floor or settled cells.
+     * Cells above the top row count as a collision.
+     *
+     * @param shape the brick rotation
+     * @param x the horizontal position to check
+     * @param y the vertical position to check
+     * @return true if the brick cannot be placed there
+     */
+    protected abstract boolean collides(BrickShape shape, int x, int y);
+
+    /**
+     * Checks whether a settled cell is filled.
+     *
+     * @param row the board row, inside the board
+     * @param col the board column, inside the board
+     * @return true if the cell is filled
+     */
+    protected abstract boolean isOccupied(int row, int col);
+
+    /**
+     * Writes the cells of a brick rotation into the settled cells.
+     */
+    protected abstract void placeShape(BrickShape shape, int x, int y);
+
+    /**
+     * Removes full rows between fromRow and toRow and shifts the rows above down.
+     *
+     * @param fromRow first row that may be full (inclusive, already clamped)
+     * @param toRow last row that may be full (inclusive, already clamped)
+     * @return the rows that were cleared
+     */
+    protected abstract ClearRow clearFullRows(int fromRow, int toRow);
+
+    /**
+     * Pushes every row up and fills the bottom rows with garbage.
+     *
+     * @param count number of garbage rows, already validated
+     * @param holeColumn the column left empty in each garbage row
+     * @return true if settled cells were pushed off the top
+     */
+    protected abstract boolean insertGarbageRows(int count, int holeColumn);
+
+    /**
+     * Empties every settled cell.
+     */
+    protected abstract void resetCells();
+
+    /**
+     * Captures the settled cells for a snapshot.
+     * Implementations share their row storage with the snapshot and mark it so the
+     * next write to a shared row copies that row first.
+     */
+    protected abstract BoardSnapshot.Cells saveCells();
+
+    /**
+     * Puts back settled cells captured by {@link #saveCells()}.
+     * The restored rows stay shared with the snapshot so it can be restored again.
+     *
+     * @param cells state returned by this board's saveCells
+     */
+    protected abstract void restoreCells(BoardSnapshot.Cells cells);
+
+    @Override
+    public boolean moveBrickDown() {
+        if (collides(brickRotator.getCurrentShape(), currentX, currentY + 1)) {
+            return false;
+        }
+        currentY++;
+        pieceVersion++;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        if (collides(brickRotator.getCurrentShape(), currentX - 1, currentY)) {
+            return false;
+        }
+        currentX--;
+        pieceVersion++;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        if (collides(brickRotator.getCurrentShape(), currentX + 1, currentY)) {
+            return false;
+        }
+        currentX++;
+        pieceVersion++;
+        return true;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        return rotateCounterClockwise();
+    }
+
+    @Override
+    public boolean rotateClockwise() {
+        return rotate(KickTable.CLOCKWISE);
+    }
+
+    @Override
+    public boolean rotateCounterClockwise() {
+        return rotate(KickTable.COUNTER_CLOCKWISE);
+    }
+
+    @Override
+    public boolean rotate180() {
+        return rotate(KickTable.HALF_TURN);
+    }
+
+    /**
+     * Turns the falling brick, trying each precomputed kick offset until one fits.
+     */
+    private boolean rotate(int turns) {
+        int from = brickRotator.getCurrentIndex();
+        int to = brickRotator.getIndex(turns);
+        if (from == to) {
+            // Symmetric brick, the turn changes nothing
+            return true;
+        }
+        BrickShape shape = brickRotator.getShape(to);
+        int brickId = brickRotator.getBrickId();
+        int kicks = KickTable.kickCount(brickId, from, to);
+        for (int i = 0; i < kicks; i++) {
+            int x = currentX + KickTable.kickX(brickId, from, to, i);
+            int y = currentY + KickTable.kickY(brickId, from, to, i);
+            if (!collides(shape, x, y)) {
+                brickRotator.setCurrentShape(to);
+                currentX = x;
+                currentY = y;
+                pieceVersion++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        setCurrentBrick(brickGenerator.getBrick());
+        return collides(brickRotator.getCurrentShape(), currentX, currentY);
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(brickRotator.getCurrentShape(), currentX, currentY, getLandingRow(), brickGenerator.getNextBrick().getRotation(0));
+    }
+
+    @Override
+    public int getLandingRow() {
+        BrickShape shape = brickRotator.getCurrentShape();
+        int landingRow = GhostPieceCalculator.calculateLandingRow(surfaceProfile, shape, currentX);
+        if (landingRow >= currentY) {
+            return landingRow;
+        }
+        // Tucked under an overhang: the column heights say nothing about the gap below
+        landingRow = currentY;
+        while (!collides(shape, currentX, landingRow + 1)) {
+            landingRow++;
+        }
+        return landingRow;
+    }
+
+    @Override
+    public int hardDrop() {
+        int landingRow = getLandingRow();
+        int dropDistance = landingRow - currentY;
+        if (dropDistance != 0) {
+            currentY = landingRow;
+            pieceVersion++;
+        }
+        return dropDistance;
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = brickRotator.getCurrentShape();
+        placeShape(shape, currentX, currentY);
+        surfaceProfile.onPlace(shape, currentX, currentY);
+        boardVersion++;
+        lockedFromRow = currentY + shape.minRow();
+        lockedToRow = currentY + shape.maxRow();
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        if (lockedFromRow < 0) {
+            return ClearRow.NONE;
+        }
+        int fromRow = Math.max(lockedFromRow, 0);
+        int toRow = Math.min(lockedToRow, height - 1);
+        lockedFromRow = -1;
+        ClearRow clearRow = clearFullRows(fromRow, toRow);
+        surfaceProfile.onClear(clearRow, this);
+        if (clearRow.getLinesRemoved() > 0) {
+            boardVersion++;
+        }
+        return clearRow;
+    }
+
+    @Override
+    public boolean addGarbageRows(int count, int holeColumn) {
+        if (count < 0 || count > height) {
+            throw new IllegalArgumentException("Garbage row count out of range: " + count);
+        }
+        if (holeColumn < 0 || holeColumn >= width) {
+            throw new IllegalArgumentException("Hole column out of range: " + holeColumn);
+        }
+        if (count == 0) {
+            return false;
+        }
+        boolean toppedOut = insertGarbageRows(count, holeColumn);
+        surfaceProfile.onGarbage(count, holeColumn, toppedOut, this);
+        lockedFromRow = -1;
+        boardVersion++;
+        pieceVersion++;
+
+        // Lift the falling brick clear of the new rows if it now overlaps them
+        BrickShape shape = brickRotator.getCurrentShape();
+        for (int i = 0; i < count && collides(shape, currentX, currentY); i++) {
+            currentY--;
+        }
+        return toppedOut;
+    }
+
+    @Override
+    public long getBoardVersion() {
+        return boardVersion;
+    }
+
+    @Override
+    public long getPieceVersion() {
+        return pieceVersion;
+    }
+
+    @Override
+    public HoldManager getHoldManager() {
+        return holdManager;
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        return new BoardSnapshot(this, saveCells(), surfaceProfile.copy(), currentBrick,
+                brickRotator.getCurrentIndex(), currentX, currentY, lockedFromRow, lockedToRow,
+                holdManager.getHeldBrick(), holdManager.canHold(), brickGenerator.copy(),
+                score.get());
+    }
+
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        if (snapshot.owner != this) {
+            throw new IllegalArgumentException("Snapshot was taken from a different board");
+        }
+        restoreCells(snapshot.cells);
+        surfaceProfile.copyFrom(snapshot.profile);
+        currentBrick = snapshot.currentBrick;
+        if (currentBrick != null) {
+            brickRotator.setBrick(currentBrick);
+            brickRotator.setCurrentShape(snapshot.rotation);
+        }
+        currentX = snapshot.x;
+        currentY = snapshot.y;
+        lockedFromRow = snapshot.lockedFromRow;
+        lockedToRow = snapshot.lockedToRow;
+        holdManager.restore(snapshot.heldBrick, snapshot.canHold);
+        // Copy again so the snapshot's queue is never advanced
+        brickGenerator = snapshot.generator.copy();
+        score.restore(snapshot.score);
+        boardVersion++;
+        pieceVersion++;
+    }
+
+    @Override
+    public SurfaceProfile getSurfaceProfile() {
+        return surfaceProfile;
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        resetCells();
+        surfaceProfile.reset();
+        lockedFromRow = -1;
+        boardVersion++;
+        score.reset();
+        holdManager.clear();
+        createNewBrick();
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return currentBrick;
+    }
+
+    @Override
+    public BrickShape getCurrentShape() {
+        return brickRotator.getCurrentShape();
+    }
+
+    @Override
+    public int getBrickX() {
+        return currentX;
+    }
+
+    @Override
+    public int getBrickY() {
+        return currentY;
+    }
+
+    @Override
+    public int getRotationIndex() {
+        return brickRotator.getCurrentIndex();
+    }
+
+    @Override
+    public boolean fits(BrickShape shape, int x, int y) {
+        return !collides(shape, x, y);
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public void setCurrentBrick(Brick brick) {
+        this.currentBrick = brick;
+        brickRotator.setBrick(brick);
+        currentX = spawnX;
+        currentY = GameConstants.INITIAL_BRICK_Y;
+        pieceVersion++;
+    }
+
+    @Override
+    public BrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+
+    /**
+     * Clears the entire board (for Zen mode when board fills up).
+     */
+    @Override
+    public void clearBoard() {
+        resetCells();
+        surfaceProfile.reset();
+        lockedFromRow = -1;
+        boardVersion++;
+    }
+}
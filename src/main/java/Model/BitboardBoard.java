@@ -0,0 +1,216 @@
+package Model;
+
+import Data.ClearRow;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import Utilities.GameConstants;
+import Utilities.MatrixOperations;
+import Utilities.RowMasks;
+
+import java.util.Arrays;
+
+/**
+ * Board backend that keeps every row as an int bitmask.
+ * Collision, line-full tests and merges are a few bitwise operations per row.
+ * Brick colours are kept in a separate byte plane that is only read for rendering.
+ */
+public final class BitboardBoard extends AbstractBoard {
+
+    /** Widest board that still leaves room for the walls in an int */
+    public static final int MAX_WIDTH = RowMasks.MAX_WIDTH;
+
+    private final int emptyRow;
+    /** Scratch for the rows found full by the last clear, at most one brick tall */
+    private final int[] fullRows = new int[4];
+    /** Row masks, followed by the solid floor rows so no bounds check is needed below */
+    private final int[] rows;
+    /** Colour codes used for rendering only */
+    private final byte[][] colors;
+    /** Colour rows still referenced by a snapshot, copied before their first write */
+    private final boolean[] shared;
+    private int[][] renderMatrix;
+    private boolean renderDirty = true;
+
+    public BitboardBoard(int height, int width) {
+        this(height, width, new RandomBrickGenerator());
+    }
+
+    public BitboardBoard(int height, int width, BrickGenerator brickGenerator) {
+        super(height, width, brickGenerator);
+        if (width < 1 || width > MAX_WIDTH) {
+            throw new IllegalArgumentException("Bitboard width must be between 1 and " + MAX_WIDTH + ": " + width);
+        }
+        this.emptyRow = RowMasks.emptyRow(width);
+        rows = new int[height + RowMasks.FLOOR_ROWS];
+        colors = new byte[height][width];
+        shared = new boolean[height];
+        resetCells();
+    }
+
+    @Override
+    protected void resetCells() {
+        for (int i = 0; i < height; i++) {
+            rows[i] = emptyRow;
+            clearColors(i);
+        }
+        for (int i = height; i < rows.length; i++) {
+            rows[i] = RowMasks.FULL_ROW;
+        }
+        renderDirty = true;
+    }
+
+    /**
+     * Empties a colour row, replacing it instead if a snapshot still holds it.
+     */
+    private void clearColors(int row) {
+        if (shared[row]) {
+            colors[row] = new byte[width];
+            shared[row] = false;
+        } else {
+            Arrays.fill(colors[row], (byte) 0);
+        }
+    }
+
+    /**
+     * Checks whether a brick rotation collides with the walls, floor or settled cells.
+     *
+     * @param shape the brick rotation
+     * @param x the horizontal position to check
+     * @param y the vertical position to check
+     * @return true if the brick cannot be placed there
+     */
+    @Override
+    protected boolean collides(BrickShape shape, int x, int y) {
+        return RowMasks.collides(rows, 0, shape, x, y);
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        if (renderDirty) {
+            if (renderMatrix == null) {
+                renderMatrix = new int[height][width];
+            }
+            for (int i = 0; i < height; i++) {
+                for (int j = 0; j < width; j++) {
+                    renderMatrix[i][j] = colors[i][j];
+                }
+            }
+            renderDirty = false;
+        }
+        return renderMatrix;
+    }
+
+    @Override
+    protected boolean isOccupied(int row, int col) {
+        return (rows[row] & RowMasks.cellBit(col)) != 0;
+    }
+
+    @Override
+    protected void placeShape(BrickShape shape, int x, int y) {
+        RowMasks.merge(rows, 0, shape, x, y);
+        for (int r = shape.minRow(); r <= shape.maxRow(); r++) {
+            if (shared[y + r]) {
+                colors[y + r] = colors[y + r].clone();
+                shared[y + r] = false;
+            }
+        }
+        byte color = (byte) shape.color();
+        for (int i = 0; i < shape.cellCount(); i++) {
+            colors[y + shape.cellRow(i)][x + shape.cellCol(i)] = color;
+        }
+        renderDirty = true;
+    }
+
+    @Override
+    protected ClearRow clearFullRows(int fromRow, int toRow) {
+        int cleared = 0;
+        for (int i = fromRow; i <= toRow; i++) {
+            if (rows[i] == RowMasks.FULL_ROW) {
+                fullRows[cleared++] = i;
+            }
+        }
+        if (cleared == 0) {
+            return ClearRow.NONE;
+        }
+
+        int[] clearedRows = Arrays.copyOf(fullRows, cleared);
+        RowMasks.clearRows(rows, 0, fromRow, toRow, emptyRow);
+        // Colour rows follow the masks; cleared ones are recycled at the top
+        int next = cleared - 1;
+        int write = toRow;
+        for (int read = toRow; read >= 0; read--) {
+            if (next >= 0 && read == clearedRows[next]) {
+                next--;
+                continue;
+            }
+            if (write != read) {
+                byte[] moved = colors[write];
+                colors[write] = colors[read];
+                colors[read] = moved;
+                boolean movedShared = shared[write];
+                shared[write] = shared[read];
+                shared[read] = movedShared;
+            }
+            write--;
+        }
+        for (int i = write; i >= 0; i--) {
+            clearColors(i);
+        }
+        renderDirty = true;
+        return new ClearRow(cleared, clearedRows, MatrixOperations.scoreForLines(cleared));
+    }
+
+    @Override
+    protected boolean insertGarbageRows(int count, int holeColumn) {
+        boolean toppedOut = false;
+        byte[][] recycled = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            toppedOut |= rows[i] != emptyRow;
+            recycled[i] = shared[i] ? new byte[width] : colors[i];
+        }
+        System.arraycopy(rows, count, rows, 0, height - count);
+        System.arraycopy(colors, count, colors, 0, height - count);
+        System.arraycopy(shared, count, shared, 0, height - count);
+        int garbageRow = ~RowMasks.cellBit(holeColumn);
+        for (int i = 0; i < count; i++) {
+            int row = height - count + i;
+            rows[row] = garbageRow;
+            colors[row] = recycled[i];
+            shared[row] = false;
+            Arrays.fill(colors[row], (byte) GameConstants.GARBAGE_COLOR);
+            colors[row][holeColumn] = 0;
+        }
+        renderDirty = true;
+        return toppedOut;
+    }
+
+    @Override
+    protected BoardSnapshot.Cells saveCells() {
+        Arrays.fill(shared, true);
+        return new Rows(rows.clone(), colors.clone());
+    }
+
+    @Override
+    protected void restoreCells(BoardSnapshot.Cells cells) {
+        Rows saved = (Rows) cells;
+        System.arraycopy(saved.rows, 0, rows, 0, rows.length);
+        System.arraycopy(saved.colors, 0, colors, 0, height);
+        Arrays.fill(shared, true);
+        renderDirty = true;
+    }
+
+    /**
+     * Row masks and colour row table of a snapshot.
+     * The masks are a handful of ints and are copied, the colour rows are shared.
+     */
+    private static final class Rows implements BoardSnapshot.Cells {
+        private final int[] rows;
+        private final byte[][] colors;
+
+        private Rows(int[] rows, byte[][] colors) {
+            this.rows = rows;
+            this.colors = colors;
+        }
+    }
+}
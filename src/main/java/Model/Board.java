@@ -4,6 +4,7 @@ import Data.ClearRow;
 import Data.ViewData;
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
 
 
 public interface Board {
@@ -14,20 +15,82 @@ public interface Board {
 
     boolean moveBrickRight();
 
+    /**
+     * Turns the falling brick counter-clockwise, same as {@link #rotateCounterClockwise()}.
+     */
     boolean rotateLeftBrick();
 
+    /**
+     * Turns the falling brick a quarter turn clockwise, trying wall kicks if it collides.
+     *
+     * @return true if the brick turned
+     */
+    boolean rotateClockwise();
+
+    /**
+     * Turns the falling brick a quarter turn counter-clockwise, trying wall kicks if it collides.
+     *
+     * @return true if the brick turned
+     */
+    boolean rotateCounterClockwise();
+
+    /**
+     * Turns the falling brick half a turn, trying wall kicks if it collides.
+     *
+     * @return true if the brick turned
+     */
+    boolean rotate180();
+
     boolean createNewBrick();
 
     int[][] getBoardMatrix();
 
     ViewData getViewData();
 
+    /**
+     * Gets the row the current brick would rest at if dropped straight down.
+     * Used for both the ghost piece and hard drop.
+     *
+     * @return the landing vertical position
+     */
+    int getLandingRow();
+
+    /**
+     * Moves the current brick straight down to its landing row without locking it.
+     *
+     * @return number of rows the brick dropped
+     */
+    int hardDrop();
+
     void mergeBrickToBackground();
 
     ClearRow clearRows();
 
     Score getScore();
 
+    /**
+     * Gets a counter that increases every time the settled cells change.
+     * Callers can compare it with a saved value to skip recomputing derived data.
+     *
+     * @return the monotonically increasing board version
+     */
+    long getBoardVersion();
+
+    /**
+     * Gets a counter that increases every time the falling brick moves,
+     * rotates or is replaced, including when a new brick is drawn.
+     *
+     * @return the monotonically increasing piece version
+     */
+    long getPieceVersion();
+
+    /**
+     * Gets the incrementally maintained column heights, holes and wells.
+     *
+     * @return a read-only view that stays current as the board changes
+     */
+    SurfaceProfile getSurfaceProfile();
+
     void newGame();
 
     /**
@@ -37,6 +100,43 @@ public interface Board {
      */
     Brick getCurrentBrick();
 
+    /**
+     * Gets the falling brick in its current rotation, without allocating.
+     *
+     * @return the current shape
+     */
+    BrickShape getCurrentShape();
+
+    /**
+     * Gets the column of the falling brick's shape origin.
+     */
+    int getBrickX();
+
+    /**
+     * Gets the row of the falling brick's shape origin.
+     */
+    int getBrickY();
+
+    /**
+     * Gets the rotation index of the falling brick; indices increase counter-clockwise.
+     */
+    int getRotationIndex();
+
+    /**
+     * Checks whether a shape could sit at a position without hitting the walls,
+     * the floor or settled cells. Cells above the top row do not fit.
+     *
+     * @param shape any brick rotation
+     * @param x column of the shape origin
+     * @param y row of the shape origin
+     * @return true if every cell is free
+     */
+    boolean fits(BrickShape shape, int x, int y);
+
+    int getWidth();
+
+    int getHeight();
+
     /**
      * Sets a new current brick (for hold piece feature).
      *
@@ -51,8 +151,43 @@ public interface Board {
      */
     BrickGenerator getBrickGenerator();
 
+    /**
+     * Gets the hold slot of this board.
+     *
+     * @return the HoldManager instance
+     */
+    HoldManager getHoldManager();
+
+    /**
+     * Saves the full game state: settled cells, falling brick, hold slot,
+     * generator queue and score.
+     * Rows are shared with the board until it next writes to them.
+     *
+     * @return a snapshot that can be passed to {@link #restore(BoardSnapshot)}
+     */
+    BoardSnapshot snapshot();
+
+    /**
+     * Puts the board back into a saved state. A snapshot can be restored any number of times.
+     * Both versions still move forward so cached values are recomputed.
+     *
+     * @param snapshot a snapshot taken from this board
+     * @throws IllegalArgumentException if the snapshot was taken from another board
+     */
+    void restore(BoardSnapshot snapshot);
+
     /**
      * Clears the entire board (for Zen mode).
      */
     void clearBoard();
+
+    /**
+     * Pushes every row up and inserts garbage rows at the bottom (for dig and survival variants).
+     * Each garbage row is full except for one hole.
+     *
+     * @param count number of rows to insert
+     * @param holeColumn the column left empty in each garbage row
+     * @return true if settled cells were pushed off the top of the board
+     */
+    boolean addGarbageRows(int count, int holeColumn);
 }
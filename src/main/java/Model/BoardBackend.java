@@ -0,0 +1,79 @@
+package Model;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Available board storage backends.
+ * All of them implement the same Board contract so the controller can pick either one.
+ */
+public enum BoardBackend {
+
+    /** Plain int matrix, one colour code per cell */
+    SIMPLE {
+        @Override
+        public Board create(int height, int width, BrickGenerator brickGenerator) {
+            return new SimpleBoard(height, width, brickGenerator);
+        }
+    },
+
+    /** One bitmask per row with a separate colour plane for rendering */
+    BITBOARD {
+        @Override
+        public Board create(int height, int width, BrickGenerator brickGenerator) {
+            return new BitboardBoard(height, width, brickGenerator);
+        }
+    },
+
+    /** Circular row-index table for cheap row removal and garbage insertion */
+    RING_BUFFER {
+        @Override
+        public Board create(int height, int width, BrickGenerator brickGenerator) {
+            return new RingBufferBoard(height, width, brickGenerator);
+        }
+    },
+
+    /** Only the occupied stack of rows is stored, for very tall or wide boards */
+    SPARSE {
+        @Override
+        public Board create(int height, int width, BrickGenerator brickGenerator) {
+            return new SparseBoard(height, width, brickGenerator);
+        }
+    };
+
+    /** Boards with more cells than this default to the sparse backend */
+    private static final int DENSE_CELL_LIMIT = 64 * 1024;
+
+    /**
+     * Picks a backend suited to a board size: the plain matrix for ordinary
+     * boards and the sparse stack once a dense matrix would be large.
+     *
+     * @param height number of rows
+     * @param width number of columns
+     * @return the backend to use
+     */
+    public static BoardBackend forSize(int height, int width) {
+        return (long) height * width > DENSE_CELL_LIMIT ? SPARSE : SIMPLE;
+    }
+
+    /**
+     * Creates a new board using this backend, fed by an unseeded random generator.
+     *
+     * @param height number of rows
+     * @param width number of columns
+     * @return a new empty board
+     */
+    public Board create(int height, int width) {
+        return create(height, width, new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a new board using this backend and the given brick source.
+     *
+     * @param height number of rows
+     * @param width number of columns
+     * @param brickGenerator source of the bricks
+     * @return a new empty board
+     */
+    public abstract Board create(int height, int width, BrickGenerator brickGenerator);
+}
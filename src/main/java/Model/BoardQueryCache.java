@@ -0,0 +1,157 @@
+package Model;
+
+import Data.ViewData;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Memoizes values derived from a board.
+ * Each value remembers the board and piece versions it was computed at and is
+ * only recomputed once one of the versions it depends on has moved on, so
+ * repeated queries between moves hand back the same objects.
+ */
+public final class BoardQueryCache {
+
+    private static final long STALE = -1;
+
+    private final Board board;
+
+    private ViewData viewData;
+    private long viewBoardVersion = STALE;
+    private long viewPieceVersion = STALE;
+
+    private int landingRow;
+    private long landingBoardVersion = STALE;
+    private long landingPieceVersion = STALE;
+
+    private int maxHeight;
+    private int totalWellDepth;
+    private long metricsBoardVersion = STALE;
+
+    private NextShapes nextShapes;
+
+    public BoardQueryCache(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Gets the falling brick view, rebuilt only after the board or the brick changed.
+     * The ghost row inside it depends on both versions.
+     */
+    public ViewData getViewData() {
+        long boardVersion = board.getBoardVersion();
+        long pieceVersion = board.getPieceVersion();
+        if (viewData == null || boardVersion != viewBoardVersion || pieceVersion != viewPieceVersion) {
+            viewData = board.getViewData();
+            viewBoardVersion = boardVersion;
+            viewPieceVersion = pieceVersion;
+            landingRow = viewData.getGhostYPosition();
+            landingBoardVersion = boardVersion;
+            landingPieceVersion = pieceVersion;
+        }
+        return viewData;
+    }
+
+    /**
+     * Gets the row the falling brick would land on.
+     */
+    public int getLandingRow() {
+        long boardVersion = board.getBoardVersion();
+        long pieceVersion = board.getPieceVersion();
+        if (boardVersion != landingBoardVersion || pieceVersion != landingPieceVersion) {
+            landingRow = board.getLandingRow();
+            landingBoardVersion = boardVersion;
+            landingPieceVersion = pieceVersion;
+        }
+        return landingRow;
+    }
+
+    /**
+     * Gets the height of the tallest column.
+     */
+    public int getMaxHeight() {
+        refreshMetrics();
+        return maxHeight;
+    }
+
+    /**
+     * Gets the sum of the well depths of every column.
+     */
+    public int getTotalWellDepth() {
+        refreshMetrics();
+        return totalWellDepth;
+    }
+
+    public int getTotalHoles() {
+        return board.getSurfaceProfile().totalHoles();
+    }
+
+    public int getAggregateHeight() {
+        return board.getSurfaceProfile().aggregateHeight();
+    }
+
+    public int getBumpiness() {
+        return board.getSurfaceProfile().bumpiness();
+    }
+
+    /**
+     * Recomputes the metrics that need a pass over every column.
+     * They only depend on settled cells, so moving the brick keeps them valid.
+     */
+    private void refreshMetrics() {
+        long boardVersion = board.getBoardVersion();
+        if (boardVersion == metricsBoardVersion) {
+            return;
+        }
+        SurfaceProfile profile = board.getSurfaceProfile();
+        maxHeight = profile.maxHeight();
+        int wells = 0;
+        for (int c = 0; c < profile.getWidth(); c++) {
+            wells += profile.wellDepth(c);
+        }
+        totalWellDepth = wells;
+        metricsBoardVersion = boardVersion;
+    }
+
+    /**
+     * Gets the spawn rotation of the upcoming bricks.
+     * The list is a live read-only view over the generator's preview queue, so
+     * it is only created when the count changes and reading it never allocates.
+     *
+     * @param count number of upcoming bricks wanted
+     * @return an unmodifiable list of at most count shapes
+     */
+    public List<BrickShape> getNextShapes(int count) {
+        if (nextShapes == null || nextShapes.count != count) {
+            nextShapes = new NextShapes(count);
+        }
+        return nextShapes;
+    }
+
+    /**
+     * Spawn shapes of the first few upcoming bricks. The generator is looked up
+     * on every read because restoring a snapshot replaces it.
+     */
+    private final class NextShapes extends AbstractList<BrickShape> {
+        private final int count;
+
+        private NextShapes(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public BrickShape get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of " + size());
+            }
+            return board.getBrickGenerator().getPreview().brickAt(index).getRotation(0);
+        }
+
+        @Override
+        public int size() {
+            return Math.min(count, board.getBrickGenerator().getPreview().size());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package Model;
+
+import Utilities.GameConstants;
+
+/**
+ * Board sizes a player can pick for a session on the mode selection screen.
+ * Heights include the hidden spawn rows.
+ */
+public enum BoardSize {
+
+    CLASSIC("Classic", GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH),
+    TALL("Tall", 35, 10),
+    WIDE("Wide", 25, 16),
+    LARGE("Large", 35, 20);
+
+    private final String displayName;
+    private final int height;
+    private final int width;
+
+    BoardSize(String displayName, int height, int width) {
+        this.displayName = displayName;
+        this.height = height;
+        this.width = width;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the size after this one, wrapping back to the first.
+     */
+    public BoardSize next() {
+        BoardSize[] sizes = values();
+        return sizes[(ordinal() + 1) % sizes.length];
+    }
+
+    /**
+     * Gets a label such as "Classic 10 x 23", counting visible rows only.
+     */
+    public String getLabel() {
+        return displayName + " " + width + " x " + (height - GameConstants.HIDDEN_ROWS);
+    }
+}
@@ -0,0 +1,60 @@
+package Model;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+
+/**
+ * Saved game state of a board, for practice-mode undo and for search code
+ * that tries a placement and backs it out.
+ * Settled rows are shared with the live board rather than copied, and the board
+ * copies a row only the first time it writes to it after a snapshot, so taking
+ * one costs a row table plus the small per-game state.
+ * Snapshots are opaque and can only be restored into the board that took them.
+ */
+public final class BoardSnapshot {
+
+    /**
+     * Backend specific settled-cell state.
+     */
+    interface Cells {
+    }
+
+    final Board owner;
+    final Cells cells;
+    final SurfaceProfile profile;
+    final Brick currentBrick;
+    final int rotation;
+    final int x;
+    final int y;
+    final int lockedFromRow;
+    final int lockedToRow;
+    final Brick heldBrick;
+    final boolean canHold;
+    final BrickGenerator generator;
+    final int score;
+
+    BoardSnapshot(Board owner, Cells cells, SurfaceProfile profile, Brick currentBrick, int rotation,
+                  int x, int y, int lockedFromRow, int lockedToRow, Brick heldBrick, boolean canHold,
+                  BrickGenerator generator, int score) {
+        this.owner = owner;
+        this.cells = cells;
+        this.profile = profile;
+        this.currentBrick = currentBrick;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.lockedFromRow = lockedFromRow;
+        this.lockedToRow = lockedToRow;
+        this.heldBrick = heldBrick;
+        this.canHold = canHold;
+        this.generator = generator;
+        this.score = score;
+    }
+
+    /**
+     * Gets the score at the time the snapshot was taken.
+     */
+    public int getScore() {
+        return score;
+    }
+}
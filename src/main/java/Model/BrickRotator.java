@@ -2,20 +2,63 @@ package Model;
 
 import Data.NextShapeInfo;
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RotationTable;
 
 public class BrickRotator {
 
     private Brick brick;
+    /** Catalogue id of the current brick, used to look up its kick offsets */
+    private int brickId;
+    /** Shared rotation table of the current brick */
+    private RotationTable rotations;
     private int currentShape = 0;
 
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextIndex();
+        return new NextShapeInfo(rotations.get(nextShape), nextShape);
     }
 
-    public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+    /**
+     * Gets the rotation index that follows the current one without allocating.
+     *
+     * @return index of the next rotation
+     */
+    public int getNextIndex() {
+        return (currentShape + 1) % rotations.size();
+    }
+
+    /**
+     * Gets the rotation index reached by turning the current brick, without allocating.
+     *
+     * @param turns one of the KickTable turn constants
+     * @return the target rotation index
+     */
+    public int getIndex(int turns) {
+        return KickTable.target(rotations.size(), currentShape, turns);
+    }
+
+    public int getBrickId() {
+        return brickId;
+    }
+
+    /**
+     * Gets a rotation of the current brick by index.
+     *
+     * @param index the rotation index
+     * @return the shared rotation
+     */
+    public BrickShape getShape(int index) {
+        return rotations.get(index);
+    }
+
+    public BrickShape getCurrentShape() {
+        return rotations.get(currentShape);
+    }
+
+    public int getCurrentIndex() {
+        return currentShape;
     }
 
     public void setCurrentShape(int currentShape) {
@@ -24,6 +67,8 @@ public class BrickRotator {
 
     public void setBrick(Brick brick) {
         this.brick = brick;
+        this.brickId = BrickCatalog.idOf(brick);
+        this.rotations = brick.getRotationTable();
         currentShape = 0;
     }
 
@@ -0,0 +1,40 @@
+package Model;
+
+/**
+ * Time source for the timing rules of a game: gravity and the Sprint and Blitz timers.
+ * The engine only ever reads the current time from it, so the same rules can
+ * follow the wall clock, run faster than real time or be stepped by hand.
+ */
+@FunctionalInterface
+public interface GameClock {
+
+    /**
+     * Gets the current time of this clock.
+     * Only differences matter, the origin is arbitrary.
+     *
+     * @return milliseconds since the clock's origin
+     */
+    long millis();
+
+    /**
+     * Gets a clock that follows real elapsed time.
+     */
+    static GameClock system() {
+        return scaled(1.0);
+    }
+
+    /**
+     * Gets a clock that runs a fixed factor faster than real time,
+     * for example 1000 to play a two-minute Blitz game in about 120 ms.
+     *
+     * @param factor game milliseconds per real millisecond, must be positive
+     * @return a clock starting at zero now
+     */
+    static GameClock scaled(double factor) {
+        if (!(factor > 0)) {
+            throw new IllegalArgumentException("Clock factor must be positive: " + factor);
+        }
+        long origin = System.nanoTime();
+        return () -> (long) ((System.nanoTime() - origin) * factor / 1_000_000);
+    }
+}
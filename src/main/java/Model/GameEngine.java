@@ -0,0 +1,374 @@
+package Model;
+
+import Data.ViewData;
+import Utilities.GameConstants;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.function.Consumer;
+
+/**
+ * Headless game: a board plus the rules of one {@link GameMode}.
+ * Covers movement, locking through the {@link LockPipeline}, hold, levels,
+ * the Zen board clear, the Sprint line goal, the Blitz time limit and the
+ * Chaos piece history, with no JavaFX dependency. The GUI is one consumer of
+ * it; tests and servers can drive it directly at full speed.
+ * Gravity and the mode timer read a {@link GameClock} and are played out by
+ * {@link #update()}, so they can follow the wall clock, run faster or be stepped.
+ * Inputs are ignored once the game has ended.
+ */
+public final class GameEngine {
+
+    /** How a game stands, the last three end it */
+    public enum State {
+        RUNNING,
+        TOPPED_OUT,
+        TIME_UP,
+        GOAL_REACHED
+    }
+
+    /** Number of recent pieces Chaos keeps visible */
+    private static final int CHAOS_VISIBLE_PIECES = 6;
+    private static final long MILLIS_PER_SECOND = 1000;
+
+    private final GameMode gameMode;
+    private final Board board;
+    private final BoardQueryCache queries;
+    private final LevelManager levelManager = new LevelManager();
+    private final LockPipeline lockPipeline;
+    private final PieceHistoryTracker pieceHistoryTracker;
+    private final GameTimer gameTimer;
+    private final GameClock clock;
+    private State state = State.RUNNING;
+    private Runnable onTimeUp;
+    private Consumer<LockResult> onLock;
+    /** Clock times at which the next gravity step and timer second are due */
+    private long nextDrop;
+    private long nextSecond;
+    private boolean paused;
+    private long pausedAt;
+
+    /**
+     * Creates a game on a standard board with the default backend.
+     *
+     * @param gameMode the rules to play by
+     */
+    public GameEngine(GameMode gameMode) {
+        this(gameMode, BoardBackend.SIMPLE.create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH));
+    }
+
+    /**
+     * Creates a game on an existing board that follows the wall clock.
+     *
+     * @param gameMode the rules to play by
+     * @param board the board to play on, owned by this engine from now on
+     */
+    public GameEngine(GameMode gameMode, Board board) {
+        this(gameMode, board, GameClock.system());
+    }
+
+    /**
+     * Creates a game on an existing board and spawns the first brick.
+     *
+     * @param gameMode the rules to play by
+     * @param board the board to play on, owned by this engine from now on
+     * @param clock time source for gravity and the mode timer
+     */
+    public GameEngine(GameMode gameMode, Board board, GameClock clock) {
+        this.gameMode = gameMode;
+        this.board = board;
+        this.clock = clock;
+        queries = new BoardQueryCache(board);
+        lockPipeline = new LockPipeline(board, levelManager, gameMode);
+        pieceHistoryTracker = gameMode.hasInvisiblePieces() ? new PieceHistoryTracker(CHAOS_VISIBLE_PIECES) : null;
+        gameTimer = createTimer(gameMode);
+        if (gameTimer != null) {
+            gameTimer.setOnTimeUp(this::timeUp);
+            gameTimer.start();
+        }
+        board.createNewBrick();
+        restartSchedule();
+    }
+
+    /**
+     * Sprint counts up, Blitz counts down from its limit, other modes are untimed.
+     */
+    private static GameTimer createTimer(GameMode gameMode) {
+        if (gameMode.hasTimeLimit()) {
+            return new GameTimer(true, gameMode.getTimeLimit());
+        }
+        if (gameMode.hasLineGoal()) {
+            return new GameTimer(false, 0);
+        }
+        return null;
+    }
+
+    /**
+     * Starts over on an empty board with score, level, history and timer reset.
+     */
+    public void newGame() {
+        board.newGame();
+        levelManager.reset();
+        if (pieceHistoryTracker != null) {
+            pieceHistoryTracker.clear();
+        }
+        if (gameTimer != null) {
+            gameTimer.reset();
+            gameTimer.start();
+        }
+        state = State.RUNNING;
+        paused = false;
+        restartSchedule();
+    }
+
+    private void restartSchedule() {
+        long now = clock.millis();
+        nextDrop = now + getFallSpeed();
+        nextSecond = now + MILLIS_PER_SECOND;
+    }
+
+    /**
+     * Plays out every gravity step and timer second that has come due on the clock,
+     * in time order, so a level-up changes the spacing of the drops after it and
+     * the Blitz limit stops gravity at the right moment.
+     *
+     * @return number of gravity steps taken
+     */
+    public int update() {
+        if (paused) {
+            return 0;
+        }
+        long now = clock.millis();
+        int drops = 0;
+        while (isRunning()) {
+            boolean timed = gameTimer != null && gameTimer.isRunning();
+            if (timed && nextSecond <= nextDrop && nextSecond <= now) {
+                nextSecond += MILLIS_PER_SECOND;
+                gameTimer.tick();
+            } else if (nextDrop <= now) {
+                nextDrop += getFallSpeed();
+                moveDown();
+                drops++;
+            } else {
+                break;
+            }
+        }
+        return drops;
+    }
+
+    /**
+     * Stops gravity and the timer; clock time spent paused is skipped on resume.
+     */
+    public void pause() {
+        if (!paused) {
+            paused = true;
+            pausedAt = clock.millis();
+            if (gameTimer != null) {
+                gameTimer.pause();
+            }
+        }
+    }
+
+    public void resume() {
+        if (paused) {
+            long pausedFor = clock.millis() - pausedAt;
+            nextDrop += pausedFor;
+            nextSecond += pausedFor;
+            paused = false;
+            if (gameTimer != null && isRunning()) {
+                gameTimer.resume();
+            }
+        }
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public boolean moveLeft() {
+        return isRunning() && board.moveBrickLeft();
+    }
+
+    public boolean moveRight() {
+        return isRunning() && board.moveBrickRight();
+    }
+
+    public boolean rotateClockwise() {
+        return isRunning() && board.rotateClockwise();
+    }
+
+    public boolean rotateCounterClockwise() {
+        return isRunning() && board.rotateCounterClockwise();
+    }
+
+    public boolean rotate180() {
+        return isRunning() && board.rotate180();
+    }
+
+    /**
+     * Moves the falling brick down one row, locking it if it cannot move.
+     *
+     * @return the lock result, or null if the brick moved or the game has ended
+     */
+    public LockResult moveDown() {
+        if (!isRunning() || board.moveBrickDown()) {
+            return null;
+        }
+        return lock(0);
+    }
+
+    /**
+     * Drops the falling brick to its landing row and locks it.
+     *
+     * @return the lock result, or null if the game has ended
+     */
+    public LockResult hardDrop() {
+        if (!isRunning()) {
+            return null;
+        }
+        return lock(board.hardDrop());
+    }
+
+    /**
+     * Swaps the falling brick with the held one, or stores it and draws the
+     * next brick on the first hold. Only allowed once per lock.
+     *
+     * @return true if the brick was held
+     */
+    public boolean hold() {
+        HoldManager holdManager = board.getHoldManager();
+        if (!isRunning() || !holdManager.canHold()) {
+            return false;
+        }
+        Brick swappedBrick = holdManager.holdBrick(board.getCurrentBrick());
+        if (swappedBrick == null) {
+            // First hold - get next brick
+            board.createNewBrick();
+        } else {
+            board.setCurrentBrick(swappedBrick);
+        }
+        return true;
+    }
+
+    private LockResult lock(int hardDropRows) {
+        if (pieceHistoryTracker != null) {
+            trackCurrentPiece();
+        }
+        LockResult result = lockPipeline.lock(hardDropRows);
+        if (result.isGoalReached()) {
+            end(State.GOAL_REACHED);
+        } else if (result.isToppedOut()) {
+            end(State.TOPPED_OUT);
+        }
+        if (onLock != null) {
+            onLock.accept(result);
+        }
+        return result;
+    }
+
+    /**
+     * Records the cells of the falling brick for Chaos.
+     * Must run before the brick is merged, while its position is still known.
+     */
+    private void trackCurrentPiece() {
+        ViewData current = queries.getViewData();
+        BrickShape shape = current.getBrickShape();
+        int x = current.getxPosition();
+        int y = current.getyPosition();
+        int[][] positions = new int[shape.cellCount()][];
+        for (int i = 0; i < shape.cellCount(); i++) {
+            positions[i] = new int[]{y + shape.cellRow(i), x + shape.cellCol(i)};
+        }
+        pieceHistoryTracker.addPiece(positions);
+    }
+
+    private void timeUp() {
+        if (isRunning()) {
+            end(State.TIME_UP);
+            if (onTimeUp != null) {
+                onTimeUp.run();
+            }
+        }
+    }
+
+    private void end(State reason) {
+        state = reason;
+        if (gameTimer != null) {
+            gameTimer.stop();
+        }
+    }
+
+    /**
+     * Sets a callback for when the Blitz limit ends the game between inputs.
+     * Endings caused by a lock are reported through the {@link LockResult}.
+     */
+    public void setOnTimeUp(Runnable onTimeUp) {
+        this.onTimeUp = onTimeUp;
+    }
+
+    /**
+     * Sets a callback for every lock, whether from input or from gravity in {@link #update()}.
+     * The result it receives is only valid during the call.
+     */
+    public void setOnLock(Consumer<LockResult> onLock) {
+        this.onLock = onLock;
+    }
+
+    /**
+     * Gets the gravity interval: the mode's base speed, or the level speed once Zen has levelled up.
+     *
+     * @return milliseconds between automatic drops
+     */
+    public int getFallSpeed() {
+        if (gameMode.isEndless() && levelManager.getCurrentLevel() > 1) {
+            return levelManager.getFallSpeed();
+        }
+        return gameMode.getBaseSpeed();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public BoardQueryCache getQueries() {
+        return queries;
+    }
+
+    public LevelManager getLevelManager() {
+        return levelManager;
+    }
+
+    public int getScore() {
+        return board.getScore().get();
+    }
+
+    /**
+     * Gets the Sprint or Blitz timer.
+     *
+     * @return the timer, or null in untimed modes
+     */
+    public GameTimer getTimer() {
+        return gameTimer;
+    }
+
+    /**
+     * Gets the Chaos piece history.
+     *
+     * @return the tracker, or null outside Chaos
+     */
+    public PieceHistoryTracker getPieceHistoryTracker() {
+        return pieceHistoryTracker;
+    }
+}
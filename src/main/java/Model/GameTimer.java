@@ -1,76 +1,80 @@
 package Model;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.util.Duration;
+import java.util.function.IntConsumer;
 
 /**
  * Manages game timer for time-based modes.
  * Can count up (Sprint) or count down (Blitz).
+ * The timer only counts; whoever owns the time source calls {@link #tick()}
+ * once per second, so it runs without the FX toolkit.
  */
 public class GameTimer {
 
-    private Timeline timeline;
-    private IntegerProperty secondsElapsed;
-    private int startTime;  // For countdown modes
-    private boolean isCountdown;
+    private int secondsElapsed;
+    private final int startTime;  // For countdown modes
+    private final boolean isCountdown;
+    private boolean running;
     private Runnable onTimeUp;  // Callback when timer reaches 0
+    private IntConsumer onChange;
 
     public GameTimer(boolean countdown, int startSeconds) {
         this.isCountdown = countdown;
         this.startTime = countdown ? startSeconds : 0;
-        this.secondsElapsed = new SimpleIntegerProperty(startTime);
+        this.secondsElapsed = startTime;
     }
 
     /**
      * Starts the timer.
      */
     public void start() {
-        timeline = new Timeline(new KeyFrame(Duration.seconds(1), event -> {
-            if (isCountdown) {
-                // Count down
-                int newValue = secondsElapsed.get() - 1;
-                secondsElapsed.set(newValue);
-
-                if (newValue <= 0 && onTimeUp != null) {
-                    stop();
-                    onTimeUp.run();
-                }
-            } else {
-                // Count up
-                secondsElapsed.set(secondsElapsed.get() + 1);
-            }
-        }));
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        timeline.play();
+        running = true;
     }
 
     /**
      * Stops the timer.
      */
     public void stop() {
-        if (timeline != null) {
-            timeline.stop();
-        }
+        running = false;
     }
 
     /**
      * Pauses the timer.
      */
     public void pause() {
-        if (timeline != null) {
-            timeline.pause();
-        }
+        running = false;
     }
 
     /**
      * Resumes the timer.
      */
     public void resume() {
-        if (timeline != null) {
-            timeline.play();
+        running = true;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Advances the timer by one second if it is running.
+     * A countdown that reaches 0 stops and fires the time up callback.
+     */
+    public void tick() {
+        if (!running) {
+            return;
+        }
+        if (isCountdown) {
+            // Count down
+            set(secondsElapsed - 1);
+            if (secondsElapsed <= 0) {
+                stop();
+                if (onTimeUp != null) {
+                    onTimeUp.run();
+                }
+            }
+        } else {
+            // Count up
+            set(secondsElapsed + 1);
         }
     }
 
@@ -78,20 +82,13 @@ public class GameTimer {
      * Resets the timer to start value.
      */
     public void reset() {
-        secondsElapsed.set(startTime);
+        set(startTime);
     }
 
     /**
      * Gets seconds elapsed/remaining.
      */
     public int getSeconds() {
-        return secondsElapsed.get();
-    }
-
-    /**
-     * Gets the seconds property for binding.
-     */
-    public IntegerProperty secondsProperty() {
         return secondsElapsed;
     }
 
@@ -110,4 +107,18 @@ public class GameTimer {
     public void setOnTimeUp(Runnable callback) {
         this.onTimeUp = callback;
     }
-}
\ No newline at end of file
+
+    /**
+     * Sets callback that receives the seconds value whenever it changes.
+     */
+    public void setOnChange(IntConsumer callback) {
+        this.onChange = callback;
+    }
+
+    private void set(int value) {
+        secondsElapsed = value;
+        if (onChange != null) {
+            onChange.accept(value);
+        }
+    }
+}
@@ -1,23 +1,53 @@
 package Model;
 
-import java.io.*;
-import java.nio.file.*;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Manages high score persistence with separate scores per game mode.
  * Saves and loads the highest score achieved for each mode.
+ * Safe to share between any number of concurrent sessions: each mode's score
+ * is raised with a compare-and-set loop, a score that is not a record costs a
+ * single read, and file writes run on one background thread, with bursts of
+ * updates folded into a single write.
  */
 public class HighScoreManager {
 
-    private static HighScoreManager instance;
-    private Map<GameMode, Integer> highScores;
-    private final String SAVE_FILE = "highscores.dat";
+    private static final String SAVE_FILE = "highscores.dat";
+    /** Ints between two modes' slots, so each score sits on its own cache line */
+    private static final int STRIDE = 16;
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+
+    private final Path saveFile;
+    private final AtomicIntegerArray highScores = new AtomicIntegerArray(GameMode.values().length * STRIDE);
+    /** Set while a write is queued but has not yet read the scores */
+    private final AtomicBoolean savePending = new AtomicBoolean();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "high-score-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private HighScoreManager() {
-        highScores = new HashMap<>();
+        saveFile = Paths.get(SAVE_FILE);
         loadHighScores();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "high-score-flush"));
+    }
+
+    /**
+     * Lazily created on first use; the class loader makes creation thread-safe.
+     */
+    private static final class Holder {
+        private static final HighScoreManager INSTANCE = new HighScoreManager();
     }
 
     /**
@@ -26,10 +56,11 @@ public class HighScoreManager {
      * @return the HighScoreManager instance
      */
     public static HighScoreManager getInstance() {
-        if (instance == null) {
-            instance = new HighScoreManager();
-        }
-        return instance;
+        return Holder.INSTANCE;
+    }
+
+    private static int slot(GameMode mode) {
+        return mode.ordinal() * STRIDE;
     }
 
     /**
@@ -38,8 +69,8 @@ public class HighScoreManager {
      */
     private void loadHighScores() {
         try {
-            if (Files.exists(Paths.get(SAVE_FILE))) {
-                String content = Files.readString(Paths.get(SAVE_FILE));
+            if (Files.exists(saveFile)) {
+                String content = Files.readString(saveFile);
                 String[] lines = content.split("\n");
 
                 for (String line : lines) {
@@ -48,46 +79,69 @@ public class HighScoreManager {
                     String[] parts = line.split(":");
                     if (parts.length == 2) {
                         GameMode mode = GameMode.valueOf(parts[0]);
-                        int score = Integer.parseInt(parts[1]);
-                        highScores.put(mode, score);
+                        int score = Integer.parseInt(parts[1].trim());
+                        highScores.set(slot(mode), score);
                     }
                 }
+            } else {
+                requestSave();
             }
-
-            // Initialize any missing modes with 0
-            for (GameMode mode : GameMode.values()) {
-                highScores.putIfAbsent(mode, 0);
-            }
-
-            saveHighScores();
-
         } catch (Exception e) {
             System.err.println("Error loading high scores: " + e.getMessage());
             // Initialize all modes to 0 on error
             for (GameMode mode : GameMode.values()) {
-                highScores.put(mode, 0);
+                highScores.set(slot(mode), 0);
             }
+            requestSave();
+        }
+    }
+
+    /**
+     * Queues a write unless one is already queued that has not read the scores yet.
+     */
+    private void requestSave() {
+        if (savePending.compareAndSet(false, true)) {
+            writer.execute(this::saveHighScores);
         }
     }
 
     /**
-     * Saves all high scores to file.
+     * Saves all high scores to file. Only runs on the writer thread; the
+     * shutdown hook just waits for it through {@link #flush()}.
      */
     private void saveHighScores() {
+        // Clear first, so an update racing with this write queues another one
+        savePending.set(false);
         try {
             StringBuilder content = new StringBuilder();
-            for (Map.Entry<GameMode, Integer> entry : highScores.entrySet()) {
-                content.append(entry.getKey().name())
+            for (GameMode mode : GameMode.values()) {
+                content.append(mode.name())
                         .append(":")
-                        .append(entry.getValue())
+                        .append(highScores.get(slot(mode)))
                         .append("\n");
             }
-            Files.writeString(Paths.get(SAVE_FILE), content.toString());
+            // Write aside and move over, so a crash never leaves a half-written file
+            Path temp = saveFile.resolveSibling(saveFile.getFileName() + ".tmp");
+            Files.writeString(temp, content.toString());
+            Files.move(temp, saveFile, StandardCopyOption.REPLACE_EXISTING);
         } catch (Exception e) {
             System.err.println("Error saving high scores: " + e.getMessage());
         }
     }
 
+    /**
+     * Waits until every queued write has reached the file.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            System.err.println("Error flushing high scores: " + e.getMessage());
+        }
+    }
+
     /**
      * Gets the high score for a specific mode.
      *
@@ -95,23 +149,28 @@ public class HighScoreManager {
      * @return the high score value
      */
     public int getHighScore(GameMode mode) {
-        return highScores.getOrDefault(mode, 0);
+        return highScores.get(slot(mode));
     }
 
     /**
      * Checks if a score is a new high score for the mode and updates if so.
+     * Lock-free: concurrent callers retry only while their score still beats
+     * the current one, and exactly the callers whose score was stored see true.
      *
      * @param mode the game mode
      * @param score the score to check
      * @return true if this is a new high score, false otherwise
      */
     public boolean checkAndUpdateHighScore(GameMode mode, int score) {
-        int currentHigh = highScores.getOrDefault(mode, 0);
-
-        if (score > currentHigh) {
-            highScores.put(mode, score);
-            saveHighScores();
-            return true;
+        int slot = slot(mode);
+        int currentHigh = highScores.get(slot);
+        while (score > currentHigh) {
+            int witness = highScores.compareAndExchange(slot, currentHigh, score);
+            if (witness == currentHigh) {
+                requestSave();
+                return true;
+            }
+            currentHigh = witness;
         }
         return false;
     }
@@ -122,8 +181,8 @@ public class HighScoreManager {
      * @param mode the game mode to reset
      */
     public void resetHighScore(GameMode mode) {
-        highScores.put(mode, 0);
-        saveHighScores();
+        highScores.set(slot(mode), 0);
+        requestSave();
     }
 
     /**
@@ -131,8 +190,8 @@ public class HighScoreManager {
      */
     public void resetAllHighScores() {
         for (GameMode mode : GameMode.values()) {
-            highScores.put(mode, 0);
+            highScores.set(slot(mode), 0);
         }
-        saveHighScores();
+        requestSave();
     }
-}
\ No newline at end of file
+}
@@ -56,6 +56,14 @@ public class HoldManager {
         return canHold;
     }
 
+    /**
+     * Puts back a saved hold slot (for board snapshots).
+     */
+    void restore(Brick heldBrick, boolean canHold) {
+        this.heldBrick = heldBrick;
+        this.canHold = canHold;
+    }
+
     /**
      * Clears the held piece (for new game).
      */
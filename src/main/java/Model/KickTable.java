@@ -0,0 +1,91 @@
+package Model;
+
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Precomputed wall kick offsets for every brick and rotation transition.
+ * When a rotated brick collides in place, the board tries each offset in order
+ * and keeps the first one that fits, so a kick test is a table lookup plus one
+ * collision check. Offsets are in cells, with negative y moving the brick up.
+ * Rotation indices increase counter-clockwise, matching the brick rotation tables.
+ */
+public final class KickTable {
+
+    /** Turns that step the rotation index forward, backward or by two */
+    public static final int COUNTER_CLOCKWISE = 1;
+    public static final int CLOCKWISE = -1;
+    public static final int HALF_TURN = 2;
+
+    private static final int MAX_ROTATIONS = 4;
+
+    /** Offsets per brick, indexed by from * MAX_ROTATIONS + to, as x0, y0, x1, y1, ... */
+    private static final int[][][] KICKS = new int[BrickCatalog.size()][MAX_ROTATIONS * MAX_ROTATIONS][];
+
+    static {
+        for (int id = 0; id < BrickCatalog.size(); id++) {
+            int rotations = BrickCatalog.get(id).getRotationCount();
+            boolean wide = isFourLong(id);
+            for (int from = 0; from < rotations; from++) {
+                for (int to = 0; to < rotations; to++) {
+                    KICKS[id][from * MAX_ROTATIONS + to] = buildKicks(rotations, from, to, wide);
+                }
+            }
+        }
+    }
+
+    private KickTable() {
+    }
+
+    /**
+     * Gets the rotation index reached by turning from a rotation.
+     *
+     * @param rotations number of rotation states of the brick
+     * @param from the current rotation index
+     * @param turns one of COUNTER_CLOCKWISE, CLOCKWISE or HALF_TURN
+     * @return the target rotation index
+     */
+    public static int target(int rotations, int from, int turns) {
+        return Math.floorMod(from + turns, rotations);
+    }
+
+    /**
+     * Gets the number of offsets to try for a transition, the unmoved position included.
+     */
+    public static int kickCount(int brickId, int from, int to) {
+        return KICKS[brickId][from * MAX_ROTATIONS + to].length / 2;
+    }
+
+    public static int kickX(int brickId, int from, int to, int kick) {
+        return KICKS[brickId][from * MAX_ROTATIONS + to][kick * 2];
+    }
+
+    public static int kickY(int brickId, int from, int to, int kick) {
+        return KICKS[brickId][from * MAX_ROTATIONS + to][kick * 2 + 1];
+    }
+
+    private static boolean isFourLong(int brickId) {
+        BrickShape shape = BrickCatalog.get(brickId).getRotation(0);
+        return shape.maxCol() - shape.minCol() == 3 || shape.maxRow() - shape.minRow() == 3;
+    }
+
+    /**
+     * Orders the offsets for one transition. Quarter turns first try the side the
+     * brick swings towards, then the other side, then one row up for floor kicks.
+     * The four-long brick may also shift two columns.
+     */
+    private static int[] buildKicks(int rotations, int from, int to, boolean wide) {
+        if (from == to) {
+            return new int[]{0, 0};
+        }
+        boolean halfTurn = rotations == 4 && Math.floorMod(to - from, rotations) == 2;
+        if (halfTurn) {
+            return new int[]{0, 0, 0, -1, 1, 0, -1, 0};
+        }
+        int side = target(rotations, from, COUNTER_CLOCKWISE) == to ? 1 : -1;
+        if (wide) {
+            return new int[]{0, 0, side, 0, -side, 0, 2 * side, 0, -2 * side, 0, 0, -1};
+        }
+        return new int[]{0, 0, side, 0, -side, 0, 0, -1, side, -1, -side, -1};
+    }
+}
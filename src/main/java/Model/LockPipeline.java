@@ -0,0 +1,73 @@
+package Model;
+
+import Data.ClearRow;
+import Utilities.GameConstants;
+
+/**
+ * Runs everything that happens when a brick locks:
+ * merge, line clear, score, level, mode goal, then spawn and top-out.
+ * Shared by soft drops, hard drops and headless runs so the rules cannot drift apart.
+ * Fills one reusable {@link LockResult}, so a lock that clears nothing allocates nothing.
+ */
+public final class LockPipeline {
+
+    private final Board board;
+    private final LevelManager levelManager;
+    private final GameMode gameMode;
+    private final LockResult result = new LockResult();
+
+    public LockPipeline(Board board, LevelManager levelManager, GameMode gameMode) {
+        this.board = board;
+        this.levelManager = levelManager;
+        this.gameMode = gameMode;
+    }
+
+    /**
+     * Locks the falling brick where it is and spawns the next one.
+     *
+     * @param hardDropRows rows the brick was hard dropped before locking, 0 for a soft lock
+     * @return the shared result, overwritten by the next call
+     */
+    public LockResult lock(int hardDropRows) {
+        result.reset();
+        Score score = board.getScore();
+        if (hardDropRows > 0) {
+            int dropPoints = hardDropRows * GameConstants.HARD_DROP_POINTS_PER_ROW;
+            score.add(dropPoints);
+            result.addScore(dropPoints);
+        }
+
+        result.setLocked(board.getCurrentShape(), board.getBrickX(), board.getBrickY());
+        board.mergeBrickToBackground();
+        board.getHoldManager().resetHoldLock();
+        ClearRow clearRow = board.clearRows();
+        result.setClearRow(clearRow);
+
+        int lines = clearRow.getLinesRemoved();
+        if (lines > 0) {
+            score.add(clearRow.getScoreBonus());
+            result.addScore(clearRow.getScoreBonus());
+            // Every mode counts lines, only Zen turns them into faster levels
+            boolean leveledUp = levelManager.addLines(lines);
+            result.setLevel(levelManager.getCurrentLevel(), leveledUp && gameMode == GameMode.ZEN);
+
+            if (gameMode.hasLineGoal() && levelManager.getTotalLinesCleared() >= gameMode.getLineGoal()) {
+                result.setGoalReached(true);
+                return result;
+            }
+        } else {
+            result.setLevel(levelManager.getCurrentLevel(), false);
+        }
+
+        if (board.createNewBrick()) {
+            if (gameMode.isEndless()) {
+                board.clearBoard();
+                board.createNewBrick();
+                result.setBoardReset(true);
+            } else {
+                result.setToppedOut(true);
+            }
+        }
+        return result;
+    }
+}
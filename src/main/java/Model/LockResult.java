@@ -0,0 +1,135 @@
+package Model;
+
+import Data.ClearRow;
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Outcome of locking one brick, filled in by {@link LockPipeline}.
+ * A single instance is reused for every lock, so read it before the next lock
+ * and do not keep a reference to it.
+ */
+public final class LockResult {
+
+    private BrickShape lockedShape;
+    private int lockedX;
+    private int lockedY;
+    private ClearRow clearRow = ClearRow.NONE;
+    private int scoreDelta;
+    private boolean leveledUp;
+    private int level;
+    private boolean toppedOut;
+    private boolean boardReset;
+    private boolean goalReached;
+
+    void reset() {
+        clearRow = ClearRow.NONE;
+        scoreDelta = 0;
+        leveledUp = false;
+        level = 0;
+        toppedOut = false;
+        boardReset = false;
+        goalReached = false;
+    }
+
+    /**
+     * Gets the shape that locked, in the rotation it locked in.
+     */
+    public BrickShape getLockedShape() {
+        return lockedShape;
+    }
+
+    /**
+     * Gets the board column of the locked shape's origin.
+     */
+    public int getLockedX() {
+        return lockedX;
+    }
+
+    /**
+     * Gets the board row of the locked shape's origin, as it was before any line cleared.
+     */
+    public int getLockedY() {
+        return lockedY;
+    }
+
+    public int getLinesCleared() {
+        return clearRow.getLinesRemoved();
+    }
+
+    /**
+     * Gets the cleared rows and their line bonus, {@link ClearRow#NONE} when nothing cleared.
+     */
+    public ClearRow getClearRow() {
+        return clearRow;
+    }
+
+    /**
+     * Gets every point awarded by this lock, hard drop bonus included.
+     */
+    public int getScoreDelta() {
+        return scoreDelta;
+    }
+
+    /**
+     * Checks whether the lock raised the level, only reported in modes that level up.
+     */
+    public boolean isLeveledUp() {
+        return leveledUp;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Checks whether the next brick could not spawn and the game is over.
+     */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+
+    /**
+     * Checks whether an endless mode wiped the board instead of ending the game.
+     */
+    public boolean isBoardReset() {
+        return boardReset;
+    }
+
+    /**
+     * Checks whether the mode's line goal was reached. No new brick is spawned then.
+     */
+    public boolean isGoalReached() {
+        return goalReached;
+    }
+
+    void setLocked(BrickShape shape, int x, int y) {
+        lockedShape = shape;
+        lockedX = x;
+        lockedY = y;
+    }
+
+    void setClearRow(ClearRow clearRow) {
+        this.clearRow = clearRow;
+    }
+
+    void addScore(int points) {
+        scoreDelta += points;
+    }
+
+    void setLevel(int level, boolean leveledUp) {
+        this.level = level;
+        this.leveledUp = leveledUp;
+    }
+
+    void setToppedOut(boolean toppedOut) {
+        this.toppedOut = toppedOut;
+    }
+
+    void setBoardReset(boolean boardReset) {
+        this.boardReset = boardReset;
+    }
+
+    void setGoalReached(boolean goalReached) {
+        this.goalReached = goalReached;
+    }
+}
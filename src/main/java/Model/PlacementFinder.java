@@ -0,0 +1,292 @@
+package Model;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.Arrays;
+
+/**
+ * Move generator that finds every resting placement the falling brick can reach.
+ * A breadth-first search runs over (x, y, rotation) states using the same moves
+ * as the player: left, right, one row down and the three rotations with the
+ * board's wall kicks. So it also finds tucks under overhangs and spins that
+ * need a rotation after the drop, which a column sweep misses.
+ * Every sideways move and turn on a row is explored before any state one row
+ * lower, so recorded paths move and turn as high as possible and only drop
+ * once nothing else is needed. A placement a straight drop reaches therefore
+ * ends in a run of DOWN inputs that a hard drop can replace.
+ * Visited states live in a bitset and the frontier in int queues, all kept
+ * between searches, so a search allocates nothing once the arrays have grown to
+ * the board.
+ */
+public final class PlacementFinder {
+
+    /** Input codes used in paths */
+    public static final byte LEFT = 0;
+    public static final byte RIGHT = 1;
+    public static final byte DOWN = 2;
+    public static final byte ROTATE_CW = 3;
+    public static final byte ROTATE_CCW = 4;
+    public static final byte ROTATE_180 = 5;
+
+    private static final int MAX_ROTATIONS = 4;
+    /** Columns left of the board and rows above it that a fitting shape origin can reach */
+    private static final int MARGIN = 4;
+    private static final int[] TURNS = {KickTable.CLOCKWISE, KickTable.COUNTER_CLOCKWISE, KickTable.HALF_TURN};
+    private static final byte[] TURN_MOVES = {ROTATE_CW, ROTATE_CCW, ROTATE_180};
+
+    private final boolean recordPaths;
+    private final BrickShape[] shapes = new BrickShape[MAX_ROTATIONS];
+    private int rotations;
+    private int brickId;
+    private int spanX;
+    private int statesPerRotation;
+    private long[] visited = new long[0];
+    private int[] queue = new int[0];
+    /** States reached by a drop, held back until the states above them are done */
+    private int[] drops = new int[0];
+    /** State each state was first reached from, and the input used, when paths are recorded */
+    private int[] parent = new int[0];
+    private byte[] moves = new byte[0];
+    private int[] placements = new int[0];
+    private int count;
+    private int start;
+
+    /**
+     * Creates a finder that reports placements only.
+     */
+    public PlacementFinder() {
+        this(false);
+    }
+
+    /**
+     * @param recordPaths whether to keep the inputs that reach each placement
+     */
+    public PlacementFinder(boolean recordPaths) {
+        this.recordPaths = recordPaths;
+    }
+
+    /**
+     * Finds every placement reachable from the falling brick's current position
+     * and rotation, which is the spawn point until the brick has moved.
+     * The board is only read.
+     *
+     * @param board the board to search on
+     * @return number of placements found
+     */
+    public int search(Board board) {
+        Brick brick = board.getCurrentBrick();
+        rotations = brick.getRotationCount();
+        for (int r = 0; r < rotations; r++) {
+            shapes[r] = brick.getRotation(r);
+        }
+        brickId = BrickCatalog.idOf(brick);
+        int states = prepare(board.getWidth(), board.getHeight());
+        Arrays.fill(visited, 0, (states + Long.SIZE - 1) / Long.SIZE, 0L);
+        count = 0;
+
+        int rotation = board.getRotationIndex();
+        int x = board.getBrickX();
+        int y = board.getBrickY();
+        if (!board.fits(shapes[rotation], x, y)) {
+            return 0;
+        }
+        start = encode(rotation, x, y);
+        int head = 0;
+        int tail = visit(start, -1, (byte) -1, queue, 0);
+        int dropped = 0;
+        while (head < tail || dropped > 0) {
+            if (head == tail) {
+                // Row done, move on to the states one row down
+                System.arraycopy(drops, 0, queue, tail, dropped);
+                tail += dropped;
+                dropped = 0;
+            }
+            int state = queue[head++];
+            rotation = state / statesPerRotation;
+            int cell = state - rotation * statesPerRotation;
+            y = cell / spanX - MARGIN;
+            x = cell % spanX - MARGIN;
+            BrickShape shape = shapes[rotation];
+
+            if (board.fits(shape, x - 1, y)) {
+                tail = visit(encode(rotation, x - 1, y), state, LEFT, queue, tail);
+            }
+            if (board.fits(shape, x + 1, y)) {
+                tail = visit(encode(rotation, x + 1, y), state, RIGHT, queue, tail);
+            }
+            if (board.fits(shape, x, y + 1)) {
+                dropped = visit(encode(rotation, x, y + 1), state, DOWN, drops, dropped);
+            } else {
+                placements[count++] = state;
+            }
+            for (int t = 0; t < TURNS.length; t++) {
+                int to = KickTable.target(rotations, rotation, TURNS[t]);
+                if (to == rotation) {
+                    // Symmetric brick, the turn changes nothing
+                    continue;
+                }
+                // Same kick order as the board, so a recorded path replays exactly
+                int kicks = KickTable.kickCount(brickId, rotation, to);
+                for (int k = 0; k < kicks; k++) {
+                    int kx = x + KickTable.kickX(brickId, rotation, to, k);
+                    int ky = y + KickTable.kickY(brickId, rotation, to, k);
+                    if (board.fits(shapes[to], kx, ky)) {
+                        tail = visit(encode(to, kx, ky), state, TURN_MOVES[t], queue, tail);
+                        break;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sizes the state arrays for a board, growing them only when needed.
+     *
+     * @return number of states
+     */
+    private int prepare(int width, int height) {
+        spanX = width + MARGIN;
+        statesPerRotation = spanX * (height + MARGIN);
+        int states = statesPerRotation * rotations;
+        if (queue.length < states) {
+            int capacity = statesPerRotation * MAX_ROTATIONS;
+            visited = new long[(capacity + Long.SIZE - 1) / Long.SIZE];
+            queue = new int[capacity];
+            drops = new int[capacity];
+            placements = new int[capacity];
+            if (recordPaths) {
+                parent = new int[capacity];
+                moves = new byte[capacity];
+            }
+        }
+        return states;
+    }
+
+    private int encode(int rotation, int x, int y) {
+        return rotation * statesPerRotation + (y + MARGIN) * spanX + x + MARGIN;
+    }
+
+    /**
+     * Queues a state unless it was already seen.
+     *
+     * @param target the queue to append to
+     * @param tail number of states already in it
+     * @return the new queue tail
+     */
+    private int visit(int state, int from, byte move, int[] target, int tail) {
+        long bit = 1L << state;
+        int word = state >>> 6;
+        if ((visited[word] & bit) != 0) {
+            return tail;
+        }
+        visited[word] |= bit;
+        if (recordPaths) {
+            parent[state] = from;
+            moves[state] = move;
+        }
+        target[tail] = state;
+        return tail + 1;
+    }
+
+    /**
+     * Gets the number of placements found by the last search.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public int getX(int placement) {
+        return placements[placement] % spanX - MARGIN;
+    }
+
+    public int getY(int placement) {
+        return placements[placement] % statesPerRotation / spanX - MARGIN;
+    }
+
+    public int getRotation(int placement) {
+        return placements[placement] / statesPerRotation;
+    }
+
+    public BrickShape getShape(int placement) {
+        return shapes[getRotation(placement)];
+    }
+
+    /**
+     * Gets the input sequence from the search start to a placement.
+     * Sideways moves and turns come as early as possible; the brick rests at
+     * the end, so a hard drop or one more DOWN input locks it.
+     *
+     * @param placement index from 0 to getCount() - 1
+     * @param out receives the inputs in order, see {@link #getPathLength}
+     * @return number of inputs written
+     * @throws IllegalStateException if this finder does not record paths
+     */
+    public int getPath(int placement, byte[] out) {
+        int length = getPathLength(placement);
+        if (out.length < length) {
+            throw new IllegalArgumentException("Path needs " + length + " inputs, buffer holds " + out.length);
+        }
+        int state = placements[placement];
+        for (int i = length - 1; i >= 0; i--) {
+            out[i] = moves[state];
+            state = parent[state];
+        }
+        return length;
+    }
+
+    /**
+     * Gets the number of inputs on the path to a placement.
+     *
+     * @throws IllegalStateException if this finder does not record paths
+     */
+    public int getPathLength(int placement) {
+        if (!recordPaths) {
+            throw new IllegalStateException("Paths are not recorded by this finder");
+        }
+        int length = 0;
+        for (int state = placements[placement]; state != start; state = parent[state]) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Plays one path input on a board.
+     *
+     * @param board the board the search ran on
+     * @param move one of the input codes
+     * @return true if the brick moved
+     */
+    public static boolean apply(Board board, byte move) {
+        return switch (move) {
+            case LEFT -> board.moveBrickLeft();
+            case RIGHT -> board.moveBrickRight();
+            case DOWN -> board.moveBrickDown();
+            case ROTATE_CW -> board.rotateClockwise();
+            case ROTATE_CCW -> board.rotateCounterClockwise();
+            case ROTATE_180 -> board.rotate180();
+            default -> throw new IllegalArgumentException("Unknown input: " + move);
+        };
+    }
+
+    /**
+     * Plays one path input through a game, so it follows the game's rules.
+     *
+     * @param engine the game whose board the search ran on
+     * @param move one of the input codes
+     */
+    public static void apply(GameEngine engine, byte move) {
+        switch (move) {
+            case LEFT -> engine.moveLeft();
+            case RIGHT -> engine.moveRight();
+            case DOWN -> engine.moveDown();
+            case ROTATE_CW -> engine.rotateClockwise();
+            case ROTATE_CCW -> engine.rotateCounterClockwise();
+            case ROTATE_180 -> engine.rotate180();
+            default -> throw new IllegalArgumentException("Unknown input: " + move);
+        }
+    }
+}
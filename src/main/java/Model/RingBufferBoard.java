@@ -0,0 +1,248 @@
+package Model;
+
+import Data.ClearRow;
+import Utilities.GameConstants;
+import Utilities.MatrixOperations;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+import java.util.Arrays;
+
+/**
+ * Board backend for dig and survival variants.
+ * Row contents live in fixed slots and a circular row-index table maps board
+ * rows to slots, so removing a row or pushing garbage in from the bottom only
+ * moves a few indices instead of copying rows.
+ */
+public final class RingBufferBoard extends AbstractBoard {
+
+    /** Colour codes, one row of width cells per slot */
+    private final int[][] cells;
+    /** Slots still referenced by a snapshot, copied before their first write */
+    private final boolean[] shared;
+    /** Filled cell count per slot, for constant-time line-full tests */
+    private final int[] filled;
+    /** Circular table: board row i is stored in slot rowSlots[(head + i) % height] */
+    private final int[] rowSlots;
+    private int head;
+    private int[][] renderMatrix;
+    private boolean renderDirty = true;
+
+    public RingBufferBoard(int height, int width) {
+        this(height, width, new RandomBrickGenerator());
+    }
+
+    public RingBufferBoard(int height, int width, BrickGenerator brickGenerator) {
+        super(height, width, brickGenerator);
+        cells = new int[height][width];
+        shared = new boolean[height];
+        filled = new int[height];
+        rowSlots = new int[height];
+        resetCells();
+    }
+
+    /**
+     * Gets the slot holding a board row.
+     */
+    private int slot(int row) {
+        int index = head + row;
+        if (index >= height) {
+            index -= height;
+        }
+        return rowSlots[index];
+    }
+
+    private void setSlot(int row, int slot) {
+        int index = head + row;
+        if (index >= height) {
+            index -= height;
+        }
+        rowSlots[index] = slot;
+    }
+
+    /**
+     * Makes a slot safe to write, copying it if a snapshot still holds it.
+     */
+    private int[] ownSlot(int slot) {
+        if (shared[slot]) {
+            cells[slot] = cells[slot].clone();
+            shared[slot] = false;
+        }
+        return cells[slot];
+    }
+
+    /**
+     * Empties a slot, replacing it instead if a snapshot still holds it.
+     */
+    private void clearSlot(int slot) {
+        if (shared[slot]) {
+            cells[slot] = new int[width];
+            shared[slot] = false;
+        } else {
+            Arrays.fill(cells[slot], 0);
+        }
+        filled[slot] = 0;
+    }
+
+    @Override
+    protected void resetCells() {
+        for (int s = 0; s < height; s++) {
+            clearSlot(s);
+        }
+        for (int i = 0; i < height; i++) {
+            rowSlots[i] = i;
+        }
+        head = 0;
+        renderDirty = true;
+    }
+
+    @Override
+    protected boolean collides(BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.cellCount(); i++) {
+            int targetX = x + shape.cellCol(i);
+            int targetY = y + shape.cellRow(i);
+            if (targetX < 0 || targetX >= width || targetY < 0 || targetY >= height
+                    || cells[slot(targetY)][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean isOccupied(int row, int col) {
+        return cells[slot(row)][col] != 0;
+    }
+
+    @Override
+    protected void placeShape(BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.cellCount(); i++) {
+            int s = slot(y + shape.cellRow(i));
+            int[] row = ownSlot(s);
+            int col = x + shape.cellCol(i);
+            if (row[col] == 0) {
+                filled[s]++;
+            }
+            row[col] = shape.color();
+        }
+        renderDirty = true;
+    }
+
+    @Override
+    protected ClearRow clearFullRows(int fromRow, int toRow) {
+        int cleared = 0;
+        for (int i = fromRow; i <= toRow; i++) {
+            if (filled[slot(i)] == width) {
+                cleared++;
+            }
+        }
+        if (cleared == 0) {
+            return ClearRow.NONE;
+        }
+
+        int[] clearedRows = new int[cleared];
+        int found = 0;
+        // Top to bottom: removing a row only renumbers the rows above it
+        for (int i = fromRow; i <= toRow; i++) {
+            if (filled[slot(i)] == width) {
+                clearedRows[found++] = i;
+                removeRow(i);
+            }
+        }
+        renderDirty = true;
+        return new ClearRow(cleared, clearedRows, MatrixOperations.scoreForLines(cleared));
+    }
+
+    /**
+     * Removes one row and inserts an empty row at the top.
+     * Shifts whichever side of the removed row is shorter, so the cost is the
+     * distance to the nearest edge in indices plus one row of cells.
+     */
+    private void removeRow(int row) {
+        int freed = slot(row);
+        clearSlot(freed);
+        if (row < height / 2) {
+            // Shift the rows above down by one, freed slot becomes the top row
+            for (int i = row; i > 0; i--) {
+                setSlot(i, slot(i - 1));
+            }
+            setSlot(0, freed);
+        } else {
+            // Shift the rows below up by one, then rotate the ring so the freed
+            // slot at the bottom wraps around to become the top row
+            for (int i = row; i < height - 1; i++) {
+                setSlot(i, slot(i + 1));
+            }
+            setSlot(height - 1, freed);
+            head = head == 0 ? height - 1 : head - 1;
+        }
+    }
+
+    @Override
+    protected boolean insertGarbageRows(int count, int holeColumn) {
+        boolean toppedOut = false;
+        for (int n = 0; n < count; n++) {
+            // The top slot rotates round to become the new bottom row
+            int s = slot(0);
+            toppedOut |= filled[s] > 0;
+            head = head == height - 1 ? 0 : head + 1;
+            int[] row = shared[s] ? new int[width] : cells[s];
+            cells[s] = row;
+            shared[s] = false;
+            Arrays.fill(row, GameConstants.GARBAGE_COLOR);
+            row[holeColumn] = 0;
+            filled[s] = width - 1;
+        }
+        renderDirty = true;
+        return toppedOut;
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        if (renderDirty) {
+            if (renderMatrix == null) {
+                renderMatrix = new int[height][width];
+            }
+            for (int i = 0; i < height; i++) {
+                System.arraycopy(cells[slot(i)], 0, renderMatrix[i], 0, width);
+            }
+            renderDirty = false;
+        }
+        return renderMatrix;
+    }
+
+    @Override
+    protected BoardSnapshot.Cells saveCells() {
+        Arrays.fill(shared, true);
+        return new Slots(cells.clone(), filled.clone(), rowSlots.clone(), head);
+    }
+
+    @Override
+    protected void restoreCells(BoardSnapshot.Cells saved) {
+        Slots slots = (Slots) saved;
+        System.arraycopy(slots.cells, 0, cells, 0, height);
+        System.arraycopy(slots.filled, 0, filled, 0, height);
+        System.arraycopy(slots.rowSlots, 0, rowSlots, 0, height);
+        head = slots.head;
+        Arrays.fill(shared, true);
+        renderDirty = true;
+    }
+
+    /**
+     * Slot table, fill counts and ring position of a snapshot, the slot rows are shared.
+     */
+    private static final class Slots implements BoardSnapshot.Cells {
+        private final int[][] cells;
+        private final int[] filled;
+        private final int[] rowSlots;
+        private final int head;
+
+        private Slots(int[][] cells, int[] filled, int[] rowSlots, int head) {
+            this.cells = cells;
+            this.filled = filled;
+            this.rowSlots = rowSlots;
+            this.head = head;
+        }
+    }
+}
@@ -1,21 +1,45 @@
 package Model;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import java.util.function.IntConsumer;
 
+/**
+ * Running score of one game. Plain Java so it works without the FX toolkit;
+ * a view can follow it through {@link #setOnChange(IntConsumer)}.
+ */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int score;
+    private IntConsumer onChange;
 
-    public IntegerProperty scoreProperty() {
+    public int get() {
         return score;
     }
 
     public void add(int i){
-        score.setValue(score.getValue() + i);
+        set(score + i);
+    }
+
+    void restore(int value) {
+        set(value);
     }
 
     public void reset() {
-        score.setValue(0);
+        set(0);
+    }
+
+    /**
+     * Sets a callback that receives the new score whenever it changes.
+     *
+     * @param onChange the callback, or null for none
+     */
+    public void setOnChange(IntConsumer onChange) {
+        this.onChange = onChange;
+    }
+
+    private void set(int value) {
+        score = value;
+        if (onChange != null) {
+            onChange.accept(value);
+        }
     }
 }
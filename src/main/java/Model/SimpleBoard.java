@@ -1,162 +1,171 @@
 package Model;
 
 import Data.ClearRow;
-import Data.NextShapeInfo;
-import Data.ViewData;
+import Utilities.GameConstants;
 import Utilities.MatrixOperations;
-import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
-import java.awt.*;
-import Utilities.GameConstants;
+
+import java.util.Arrays;
 
 
-public class SimpleBoard implements Board {
+public class SimpleBoard extends AbstractBoard {
 
-    private final int width;
-    private final int height;
-    private final BrickGenerator brickGenerator;
-    private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
-    private final Score score;
-    private Brick currentBrick;
+    private final int[][] currentGameMatrix;
+    /** Rows still referenced by a snapshot, copied before their first write */
+    private final boolean[] shared;
 
     public SimpleBoard(int height, int width) {
-        this.width = width;
-        this.height = height;
-        currentGameMatrix = new int[height][width];
-        brickGenerator = new RandomBrickGenerator();
-        brickRotator = new BrickRotator();
-        score = new Score();
+        this(height, width, new RandomBrickGenerator());
     }
 
-    @Override
-    public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+    public SimpleBoard(int height, int width, BrickGenerator brickGenerator) {
+        super(height, width, brickGenerator);
+        currentGameMatrix = new int[height][width];
+        shared = new boolean[height];
     }
 
-
-    @Override
-    public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
+    /**
+     * Makes a row safe to write, copying it if a snapshot still holds it.
+     */
+    private int[] ownRow(int row) {
+        if (shared[row]) {
+            currentGameMatrix[row] = currentGameMatrix[row].clone();
+            shared[row] = false;
         }
+        return currentGameMatrix[row];
     }
 
     @Override
-    public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+    protected boolean collides(BrickShape shape, int x, int y) {
+        return MatrixOperations.intersect(currentGameMatrix, shape, x, y);
     }
 
     @Override
-    public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
-        if (conflict) {
-            return false;
-        } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
-        }
+    protected boolean isOccupied(int row, int col) {
+        return currentGameMatrix[row][col] != 0;
     }
 
     @Override
-    public boolean createNewBrick() {
-        currentBrick = brickGenerator.getBrick();
-        brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(GameConstants.INITIAL_BRICK_X, GameConstants.INITIAL_BRICK_Y);
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+    protected void placeShape(BrickShape shape, int x, int y) {
+        for (int r = shape.minRow(); r <= shape.maxRow(); r++) {
+            ownRow(y + r);
+        }
+        MatrixOperations.mergeInPlace(currentGameMatrix, shape, x, y);
     }
 
     @Override
-    public int[][] getBoardMatrix() {
-        return currentGameMatrix;
-    }
+    protected ClearRow clearFullRows(int fromRow, int toRow) {
+        int cleared = 0;
+        for (int i = fromRow; i <= toRow; i++) {
+            if (MatrixOperations.isRowFull(currentGameMatrix[i])) {
+                cleared++;
+            }
+        }
+        if (cleared == 0) {
+            return ClearRow.NONE;
+        }
 
-    @Override
-    public ViewData getViewData() {
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), brickGenerator.getNextBrick().getShapeMatrix().get(0));
+        // Same compaction as MatrixOperations.clearRows, moving the shared flags along with the rows
+        int[] clearedRows = new int[cleared];
+        int[][] freed = new int[cleared][];
+        boolean[] freedShared = new boolean[cleared];
+        int found = cleared;
+        int write = toRow;
+        for (int read = toRow; read >= 0; read--) {
+            if (read >= fromRow && MatrixOperations.isRowFull(currentGameMatrix[read])) {
+                found--;
+                clearedRows[found] = read;
+                freed[found] = currentGameMatrix[read];
+                freedShared[found] = shared[read];
+                continue;
+            }
+            if (write != read) {
+                currentGameMatrix[write] = currentGameMatrix[read];
+                shared[write] = shared[read];
+            }
+            write--;
+        }
+        for (int i = 0; i < cleared; i++) {
+            int row = write - i;
+            if (freedShared[i]) {
+                currentGameMatrix[row] = new int[width];
+            } else {
+                Arrays.fill(freed[i], 0);
+                currentGameMatrix[row] = freed[i];
+            }
+            shared[row] = false;
+        }
+        return new ClearRow(cleared, clearedRows, MatrixOperations.scoreForLines(cleared));
     }
 
     @Override
-    public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+    protected boolean insertGarbageRows(int count, int holeColumn) {
+        boolean toppedOut = false;
+        int[][] recycled = new int[count][];
+        for (int i = 0; i < count; i++) {
+            toppedOut |= !isRowEmpty(currentGameMatrix[i]);
+            recycled[i] = shared[i] ? new int[width] : currentGameMatrix[i];
+        }
+        System.arraycopy(currentGameMatrix, count, currentGameMatrix, 0, height - count);
+        System.arraycopy(shared, count, shared, 0, height - count);
+        for (int i = 0; i < count; i++) {
+            int[] row = recycled[i];
+            Arrays.fill(row, GameConstants.GARBAGE_COLOR);
+            row[holeColumn] = 0;
+            currentGameMatrix[height - count + i] = row;
+            shared[height - count + i] = false;
+        }
+        return toppedOut;
     }
 
-    @Override
-    public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
-
+    private static boolean isRowEmpty(int[] row) {
+        for (int cell : row) {
+            if (cell != 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
-    public Score getScore() {
-        return score;
+    protected void resetCells() {
+        for (int i = 0; i < height; i++) {
+            if (shared[i]) {
+                currentGameMatrix[i] = new int[width];
+                shared[i] = false;
+            } else {
+                Arrays.fill(currentGameMatrix[i], 0);
+            }
+        }
     }
 
-
     @Override
-    public void newGame() {
-        currentGameMatrix = new int[height][width];
-        score.reset();
-        createNewBrick();
+    protected BoardSnapshot.Cells saveCells() {
+        Arrays.fill(shared, true);
+        return new Rows(currentGameMatrix.clone());
     }
 
     @Override
-    public Brick getCurrentBrick() {
-        return currentBrick;
+    protected void restoreCells(BoardSnapshot.Cells cells) {
+        System.arraycopy(((Rows) cells).rows, 0, currentGameMatrix, 0, height);
+        Arrays.fill(shared, true);
     }
 
     @Override
-    public void setCurrentBrick(Brick brick) {
-        this.currentBrick = brick;
-        brickRotator.setBrick(brick);
-        currentOffset = new Point(GameConstants.INITIAL_BRICK_X, GameConstants.INITIAL_BRICK_Y);
-    }
-
-   @Override
-    public BrickGenerator getBrickGenerator() {
-        return brickGenerator;
+    public int[][] getBoardMatrix() {
+        return currentGameMatrix;
     }
 
     /**
-     * Clears the entire board (for Zen mode when board fills up).
+     * Row table of a snapshot, the row arrays themselves are shared.
      */
-    @Override
-    public void clearBoard() {
-        for (int i = 0; i < currentGameMatrix.length; i++) {
-            for (int j = 0; j < currentGameMatrix[i].length; j++) {
-                currentGameMatrix[i][j] = 0;
-            }
+    private static final class Rows implements BoardSnapshot.Cells {
+        private final int[][] rows;
+
+        private Rows(int[][] rows) {
+            this.rows = rows;
         }
     }
 }
@@ -0,0 +1,275 @@
+package Model;
+
+import Data.ClearRow;
+import Utilities.GameConstants;
+import Utilities.MatrixOperations;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+import java.util.Arrays;
+
+/**
+ * Board backend for very tall or very wide boards.
+ * Only the stack of rows from the floor up to the highest filled cell is stored,
+ * and empty rows inside that stack are null, so memory follows the occupied rows
+ * rather than the board size. Each stored row keeps a bitmask in 64-bit words
+ * for collision tests and a filled count for constant-time line-full tests, so
+ * moves, merges and line checks only touch the rows covered by the brick.
+ */
+public class SparseBoard extends AbstractBoard {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Rows indexed by depth, 0 is the bottom row of the board */
+    private Row[] stack = new Row[INITIAL_CAPACITY];
+    /** Number of depths in use, everything above is empty */
+    private int size;
+    /** Rows created before the latest snapshot are shared and copied before writing */
+    private int epoch;
+    private int[][] renderMatrix;
+    /** Number of depths that may hold colours in renderMatrix */
+    private int renderedSize;
+    private boolean renderDirty = true;
+
+    public SparseBoard(int height, int width) {
+        this(height, width, new RandomBrickGenerator());
+    }
+
+    public SparseBoard(int height, int width, BrickGenerator brickGenerator) {
+        super(height, width, brickGenerator);
+    }
+
+    /**
+     * One stored row: occupancy bits and colour codes.
+     */
+    private static final class Row {
+        private final long[] bits;
+        private final byte[] colors;
+        private int filled;
+        private final int epoch;
+
+        private Row(int width, int epoch) {
+            bits = new long[(width + Long.SIZE - 1) / Long.SIZE];
+            colors = new byte[width];
+            this.epoch = epoch;
+        }
+
+        private Row(Row source, int epoch) {
+            bits = source.bits.clone();
+            colors = source.colors.clone();
+            filled = source.filled;
+            this.epoch = epoch;
+        }
+
+        private boolean get(int col) {
+            return (bits[col >>> 6] & (1L << col)) != 0;
+        }
+    }
+
+    private int depth(int row) {
+        return height - 1 - row;
+    }
+
+    private Row rowAt(int row) {
+        int d = depth(row);
+        return d < size ? stack[d] : null;
+    }
+
+    /**
+     * Gets a row that is safe to write, creating or copying it as needed.
+     */
+    private Row writableRow(int row) {
+        int d = depth(row);
+        if (d >= size) {
+            if (d >= stack.length) {
+                stack = Arrays.copyOf(stack, Math.min(height, Math.max(d + 1, stack.length * 2)));
+            }
+            size = d + 1;
+        }
+        Row current = stack[d];
+        if (current == null) {
+            current = new Row(width, epoch);
+            stack[d] = current;
+        } else if (current.epoch != epoch) {
+            current = new Row(current, epoch);
+            stack[d] = current;
+        }
+        return current;
+    }
+
+    /**
+     * Drops empty depths from the top of the stack.
+     */
+    private void trim() {
+        while (size > 0 && stack[size - 1] == null) {
+            size--;
+        }
+    }
+
+    @Override
+    protected boolean collides(BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.cellCount(); i++) {
+            int targetX = x + shape.cellCol(i);
+            int targetY = y + shape.cellRow(i);
+            if (targetX < 0 || targetX >= width || targetY < 0 || targetY >= height) {
+                return true;
+            }
+            Row row = rowAt(targetY);
+            if (row != null && row.get(targetX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean isOccupied(int row, int col) {
+        Row r = rowAt(row);
+        return r != null && r.get(col);
+    }
+
+    @Override
+    protected void placeShape(BrickShape shape, int x, int y) {
+        byte color = (byte) shape.color();
+        for (int i = 0; i < shape.cellCount(); i++) {
+            Row row = writableRow(y + shape.cellRow(i));
+            int col = x + shape.cellCol(i);
+            if (!row.get(col)) {
+                row.bits[col >>> 6] |= 1L << col;
+                row.filled++;
+            }
+            row.colors[col] = color;
+        }
+        renderDirty = true;
+    }
+
+    @Override
+    protected ClearRow clearFullRows(int fromRow, int toRow) {
+        int cleared = 0;
+        for (int i = fromRow; i <= toRow; i++) {
+            Row row = rowAt(i);
+            if (row != null && row.filled == width) {
+                cleared++;
+            }
+        }
+        if (cleared == 0) {
+            return ClearRow.NONE;
+        }
+
+        int[] clearedRows = new int[cleared];
+        int found = 0;
+        // Top to bottom: removing a deeper row first leaves the lower depths in place
+        for (int i = fromRow; i <= toRow; i++) {
+            Row row = rowAt(i);
+            if (row != null && row.filled == width) {
+                clearedRows[found++] = i;
+                int d = depth(i);
+                System.arraycopy(stack, d + 1, stack, d, size - d - 1);
+                stack[--size] = null;
+            }
+        }
+        trim();
+        renderDirty = true;
+        return new ClearRow(cleared, clearedRows, MatrixOperations.scoreForLines(cleared));
+    }
+
+    @Override
+    protected boolean insertGarbageRows(int count, int holeColumn) {
+        boolean toppedOut = false;
+        int kept = Math.min(size, height - count);
+        for (int d = kept; d < size; d++) {
+            toppedOut |= stack[d] != null;
+            stack[d] = null;
+        }
+        int newSize = kept + count;
+        if (newSize > stack.length) {
+            stack = Arrays.copyOf(stack, Math.min(height, Math.max(newSize, stack.length * 2)));
+        }
+        System.arraycopy(stack, 0, stack, count, kept);
+        for (int d = 0; d < count; d++) {
+            Row row = new Row(width, epoch);
+            Arrays.fill(row.colors, (byte) GameConstants.GARBAGE_COLOR);
+            row.colors[holeColumn] = 0;
+            for (int c = 0; c < width; c++) {
+                if (c != holeColumn) {
+                    row.bits[c >>> 6] |= 1L << c;
+                }
+            }
+            row.filled = width - 1;
+            stack[d] = row;
+        }
+        size = newSize;
+        renderDirty = true;
+        return toppedOut;
+    }
+
+    @Override
+    protected void resetCells() {
+        if (stack.length > INITIAL_CAPACITY) {
+            stack = new Row[INITIAL_CAPACITY];
+        } else {
+            Arrays.fill(stack, null);
+        }
+        size = 0;
+        renderDirty = true;
+    }
+
+    @Override
+    protected BoardSnapshot.Cells saveCells() {
+        epoch++;
+        return new Stack(Arrays.copyOf(stack, size));
+    }
+
+    @Override
+    protected void restoreCells(BoardSnapshot.Cells cells) {
+        Row[] saved = ((Stack) cells).rows;
+        if (saved.length > stack.length) {
+            stack = new Row[saved.length];
+        } else {
+            Arrays.fill(stack, null);
+        }
+        System.arraycopy(saved, 0, stack, 0, saved.length);
+        size = saved.length;
+        epoch++;
+        renderDirty = true;
+    }
+
+    /**
+     * Renders a dense matrix for the GUI. Only depths that were or are in use are rewritten.
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        if (renderDirty) {
+            if (renderMatrix == null) {
+                renderMatrix = new int[height][width];
+            }
+            int depths = Math.max(size, renderedSize);
+            for (int d = 0; d < depths; d++) {
+                int[] target = renderMatrix[height - 1 - d];
+                Row row = d < size ? stack[d] : null;
+                if (row == null) {
+                    Arrays.fill(target, 0);
+                } else {
+                    for (int c = 0; c < width; c++) {
+                        target[c] = row.colors[c];
+                    }
+                }
+            }
+            renderedSize = size;
+            renderDirty = false;
+        }
+        return renderMatrix;
+    }
+
+    /**
+     * Stored rows of a snapshot, shared with the board until it writes to them.
+     */
+    private static final class Stack implements BoardSnapshot.Cells {
+        private final Row[] rows;
+
+        private Stack(Row[] rows) {
+            this.rows = rows;
+        }
+    }
+}
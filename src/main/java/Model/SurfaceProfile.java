@@ -0,0 +1,238 @@
+package Model;
+
+import Data.ClearRow;
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Column heights, holes, wells and bumpiness of the settled cells.
+ * Kept up to date by the board on every merge, clear and garbage insertion,
+ * touching only the columns that changed, so reads are constant time.
+ * Callers only get the read-only view; the board owns all updates.
+ */
+public final class SurfaceProfile {
+
+    private final int width;
+    private final int height;
+    /** Height of each column, counted from the floor up to its highest filled cell */
+    private final int[] heights;
+    /** Number of filled cells in each column */
+    private final int[] filled;
+    private int aggregateHeight;
+    private int totalFilled;
+    private int bumpiness;
+
+    SurfaceProfile(int height, int width) {
+        this.width = width;
+        this.height = height;
+        heights = new int[width];
+        filled = new int[width];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of a column, 0 when the column is empty.
+     *
+     * @param col the board column
+     * @return number of rows from the floor to the highest filled cell
+     */
+    public int columnHeight(int col) {
+        return heights[col];
+    }
+
+    /**
+     * Gets the board row index of the highest filled cell in a column.
+     *
+     * @param col the board column
+     * @return the top row index, or the board height when the column is empty
+     */
+    public int columnTop(int col) {
+        return height - heights[col];
+    }
+
+    /**
+     * Gets the number of empty cells below the highest filled cell of a column.
+     *
+     * @param col the board column
+     * @return holes in that column
+     */
+    public int columnHoles(int col) {
+        return heights[col] - filled[col];
+    }
+
+    public int totalHoles() {
+        return aggregateHeight - totalFilled;
+    }
+
+    /**
+     * Gets the sum of all column heights.
+     */
+    public int aggregateHeight() {
+        return aggregateHeight;
+    }
+
+    /**
+     * Gets the sum of absolute height differences between neighbouring columns.
+     */
+    public int bumpiness() {
+        return bumpiness;
+    }
+
+    /**
+     * Gets how far a column sits below the lower of its two neighbours.
+     * The walls count as neighbours of full board height.
+     *
+     * @param col the board column
+     * @return the well depth, 0 if the column is not a well
+     */
+    public int wellDepth(int col) {
+        int left = col == 0 ? height : heights[col - 1];
+        int right = col == width - 1 ? height : heights[col + 1];
+        return Math.max(0, Math.min(left, right) - heights[col]);
+    }
+
+    /**
+     * Gets the height of the tallest column.
+     */
+    public int maxHeight() {
+        int max = 0;
+        for (int h : heights) {
+            max = Math.max(max, h);
+        }
+        return max;
+    }
+
+    /**
+     * Creates a detached copy, for board snapshots.
+     */
+    SurfaceProfile copy() {
+        SurfaceProfile copy = new SurfaceProfile(height, width);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Overwrites every column with the values of another profile of the same size.
+     */
+    void copyFrom(SurfaceProfile source) {
+        System.arraycopy(source.heights, 0, heights, 0, width);
+        System.arraycopy(source.filled, 0, filled, 0, width);
+        aggregateHeight = source.aggregateHeight;
+        totalFilled = source.totalFilled;
+        bumpiness = source.bumpiness;
+    }
+
+    void reset() {
+        for (int c = 0; c < width; c++) {
+            heights[c] = 0;
+            filled[c] = 0;
+        }
+        aggregateHeight = 0;
+        totalFilled = 0;
+        bumpiness = 0;
+    }
+
+    /**
+     * Updates the columns covered by a brick that was just merged.
+     */
+    void onPlace(BrickShape shape, int x, int y) {
+        int from = x + shape.minCol();
+        int to = x + shape.maxCol();
+        int before = bumpinessAround(from, to);
+        for (int i = 0; i < shape.cellCount(); i++) {
+            int col = x + shape.cellCol(i);
+            int cellHeight = height - (y + shape.cellRow(i));
+            filled[col]++;
+            totalFilled++;
+            if (cellHeight > heights[col]) {
+                aggregateHeight += cellHeight - heights[col];
+                heights[col] = cellHeight;
+            }
+        }
+        bumpiness += bumpinessAround(from, to) - before;
+    }
+
+    /**
+     * Updates every column after full rows were removed.
+     * Each column loses exactly one filled cell per cleared row. A column only
+     * needs a rescan when its top cell was cleared and a hole below is now exposed.
+     */
+    void onClear(ClearRow clearRow, AbstractBoard board) {
+        int lines = clearRow.getLinesRemoved();
+        if (lines == 0) {
+            return;
+        }
+        for (int c = 0; c < width; c++) {
+            filled[c] -= lines;
+            int h = heights[c] - lines;
+            while (h > filled[c] && !board.isOccupied(height - h, c)) {
+                h--;
+            }
+            heights[c] = h;
+        }
+        totalFilled -= lines * width;
+        recomputeTotals();
+    }
+
+    /**
+     * Updates every column after garbage rows were pushed in from the bottom.
+     */
+    void onGarbage(int count, int holeColumn, boolean toppedOut, AbstractBoard board) {
+        if (toppedOut) {
+            rebuild(board);
+            return;
+        }
+        for (int c = 0; c < width; c++) {
+            if (c == holeColumn) {
+                if (heights[c] > 0) {
+                    heights[c] += count;
+                }
+            } else {
+                heights[c] += count;
+                filled[c] += count;
+            }
+        }
+        totalFilled += count * (width - 1);
+        recomputeTotals();
+    }
+
+    /**
+     * Recomputes every column from the board cells.
+     */
+    void rebuild(AbstractBoard board) {
+        reset();
+        for (int c = 0; c < width; c++) {
+            for (int r = 0; r < height; r++) {
+                if (board.isOccupied(r, c)) {
+                    if (heights[c] == 0) {
+                        heights[c] = height - r;
+                    }
+                    filled[c]++;
+                }
+            }
+            totalFilled += filled[c];
+        }
+        recomputeTotals();
+    }
+
+    private void recomputeTotals() {
+        aggregateHeight = 0;
+        for (int h : heights) {
+            aggregateHeight += h;
+        }
+        bumpiness = bumpinessAround(0, width - 1);
+    }
+
+    /**
+     * Sums the height differences on every edge touching columns from..to.
+     */
+    private int bumpinessAround(int from, int to) {
+        int sum = 0;
+        for (int c = Math.max(from - 1, 0); c <= Math.min(to, width - 2); c++) {
+            sum += Math.abs(heights[c + 1] - heights[c]);
+        }
+        return sum;
+    }
+}
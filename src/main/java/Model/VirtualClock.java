@@ -0,0 +1,28 @@
+package Model;
+
+/**
+ * Clock that only moves when told to, for simulations and deterministic timing tests.
+ * Advance it and call {@link GameEngine#update()} to play out everything that was due.
+ * Not thread-safe; each game should own its clock.
+ */
+public final class VirtualClock implements GameClock {
+
+    private long now;
+
+    @Override
+    public long millis() {
+        return now;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param millis milliseconds to advance, not negative
+     */
+    public void advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Cannot move a clock backwards: " + millis);
+        }
+        now += millis;
+    }
+}
@@ -0,0 +1,302 @@
+package Simulation;
+
+import Model.AbstractBoard;
+import Model.KickTable;
+import Utilities.GameConstants;
+import Utilities.MatrixOperations;
+import Utilities.RowMasks;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Off-heap batch engine that keeps thousands of boards in one memory arena.
+ * Each game owns a block of {@link RowMasks} row masks (walls and a solid floor
+ * included, as in the bitboard backend) and a block of int scalars for the falling brick,
+ * score and lines. No per-game Java objects exist, so the heap stays flat no
+ * matter how many games are in flight.
+ * Moves, locks and clears follow {@link Model.SimpleBoard}: a brick spawns at the
+ * top, collides with walls, floor and settled cells, and locking clears every full
+ * row it touched for {@link MatrixOperations#scoreForLines(int)} points.
+ * The arena is allocated once and reused across runs through {@link #reset(int)}.
+ * Games do not share memory, so several threads may drive disjoint sets of games,
+ * but reset and close must not overlap with any other call.
+ */
+public final class BatchArena implements AutoCloseable {
+
+    /** Widest board an arena can hold */
+    public static final int MAX_WIDTH = RowMasks.MAX_WIDTH;
+
+    private static final int BRICK = 0;
+    private static final int ROTATION = 1;
+    private static final int X = 2;
+    private static final int Y = 3;
+    private static final int SCORE = 4;
+    private static final int LINES = 5;
+    private static final int GAME_OVER = 6;
+    /** Highest board row that may hold a settled cell; every row above it is empty */
+    private static final int STACK_TOP = 7;
+    /** Ints of per-game state */
+    private static final int SCALARS = 8;
+
+    private final Arena arena;
+    private final MemorySegment rows;
+    private final MemorySegment scalars;
+    private final int capacity;
+    private final int height;
+    private final int width;
+    private final int rowsPerGame;
+    private final int emptyRow;
+    private final int spawnX;
+    private int games;
+
+    /**
+     * Allocates room for a fixed number of games of one board size.
+     *
+     * @param capacity largest number of games that can run at once
+     * @param height number of board rows
+     * @param width number of board columns, at most {@link #MAX_WIDTH}
+     */
+    public BatchArena(int capacity, int height, int width) {
+        ShapeTable.checkSize(height, width);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Batch capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.height = height;
+        this.width = width;
+        this.rowsPerGame = height + RowMasks.FLOOR_ROWS;
+        this.emptyRow = RowMasks.emptyRow(width);
+        this.spawnX = AbstractBoard.spawnColumn(width);
+        arena = Arena.ofShared();
+        rows = arena.allocate((long) capacity * rowsPerGame * Integer.BYTES, Integer.BYTES);
+        scalars = arena.allocate((long) capacity * SCALARS * Integer.BYTES, Integer.BYTES);
+    }
+
+    /**
+     * Starts a new run with empty boards, reusing the arena.
+     *
+     * @param games number of games in this run, at most the capacity
+     */
+    public void reset(int games) {
+        if (games < 0 || games > capacity) {
+            throw new IllegalArgumentException("Game count out of range: " + games);
+        }
+        this.games = games;
+        scalars.asSlice(0, (long) games * SCALARS * Integer.BYTES).fill((byte) 0);
+        for (int g = 0; g < games; g++) {
+            clearBoard(g);
+        }
+    }
+
+    public int getGameCount() {
+        return games;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Empties the settled cells of one game, keeping its score.
+     */
+    public void clearBoard(int game) {
+        long base = rowBase(game);
+        for (int r = 0; r < height; r++) {
+            rows.setAtIndex(ValueLayout.JAVA_INT, base + r, emptyRow);
+        }
+        for (int r = height; r < rowsPerGame; r++) {
+            rows.setAtIndex(ValueLayout.JAVA_INT, base + r, RowMasks.FULL_ROW);
+        }
+        set(game, STACK_TOP, height);
+    }
+
+    /**
+     * Spawns a brick at the top of a game's board.
+     *
+     * @param game the game index
+     * @param brickId brick id from {@link com.comp2042.logic.bricks.BrickCatalog}
+     * @return true if the brick collides straight away, which ends the game
+     *         until {@link #clearBoard(int)} and another spawn start it again
+     */
+    public boolean spawn(int game, int brickId) {
+        set(game, BRICK, brickId);
+        set(game, ROTATION, 0);
+        set(game, X, spawnX);
+        set(game, Y, GameConstants.INITIAL_BRICK_Y);
+        boolean blocked = collides(game, ShapeTable.shape(brickId, 0), spawnX, GameConstants.INITIAL_BRICK_Y);
+        set(game, GAME_OVER, blocked ? 1 : 0);
+        return blocked;
+    }
+
+    public boolean moveLeft(int game) {
+        return tryMove(game, -1, 0);
+    }
+
+    public boolean moveRight(int game) {
+        return tryMove(game, 1, 0);
+    }
+
+    public boolean moveDown(int game) {
+        return tryMove(game, 0, 1);
+    }
+
+    /**
+     * Turns counter-clockwise with wall kicks, like Board.rotateLeftBrick.
+     */
+    public boolean rotate(int game) {
+        return rotate(game, KickTable.COUNTER_CLOCKWISE);
+    }
+
+    /**
+     * Turns the falling brick, trying the same kick offsets as the board.
+     *
+     * @param turns one of the {@link KickTable} turn constants
+     * @return true if the brick turned
+     */
+    public boolean rotate(int game, int turns) {
+        int brick = get(game, BRICK);
+        int from = get(game, ROTATION);
+        int to = KickTable.target(ShapeTable.rotationCount(brick), from, turns);
+        if (from == to) {
+            return true;
+        }
+        BrickShape shape = ShapeTable.shape(brick, to);
+        int x = get(game, X);
+        int y = get(game, Y);
+        for (int k = 0; k < KickTable.kickCount(brick, from, to); k++) {
+            int kx = x + KickTable.kickX(brick, from, to, k);
+            int ky = y + KickTable.kickY(brick, from, to, k);
+            if (!collides(game, shape, kx, ky)) {
+                set(game, ROTATION, to);
+                set(game, X, kx);
+                set(game, Y, ky);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the falling brick straight down to its landing row without locking it.
+     *
+     * @return number of rows the brick dropped
+     */
+    public int hardDrop(int game) {
+        BrickShape shape = currentShape(game);
+        int x = get(game, X);
+        int y = get(game, Y);
+        // The brick already fits here, so it falls freely while it stays above the stack
+        int landing = Math.max(y, get(game, STACK_TOP) - 1 - shape.maxRow());
+        while (!collides(game, shape, x, landing + 1)) {
+            landing++;
+        }
+        set(game, Y, landing);
+        return landing - y;
+    }
+
+    /**
+     * Merges the falling brick into the board and clears the rows it completed.
+     *
+     * @return the number of lines cleared
+     */
+    public int lock(int game) {
+        BrickShape shape = currentShape(game);
+        int y = get(game, Y);
+        long base = rowBase(game);
+        RowMasks.merge(rows, base, shape, get(game, X), y);
+        int cleared = RowMasks.clearRows(rows, base, Math.max(y + shape.minRow(), 0),
+                Math.min(y + shape.maxRow(), height - 1), emptyRow);
+        // Everything above the stack moves down with the cleared rows
+        set(game, STACK_TOP, Math.min(Math.min(get(game, STACK_TOP), y + shape.minRow()) + cleared, height));
+        if (cleared > 0) {
+            set(game, SCORE, get(game, SCORE) + MatrixOperations.scoreForLines(cleared));
+            set(game, LINES, get(game, LINES) + cleared);
+        }
+        return cleared;
+    }
+
+    private boolean tryMove(int game, int dx, int dy) {
+        int x = get(game, X) + dx;
+        int y = get(game, Y) + dy;
+        if (collides(game, currentShape(game), x, y)) {
+            return false;
+        }
+        set(game, X, x);
+        set(game, Y, y);
+        return true;
+    }
+
+    private boolean collides(int game, BrickShape shape, int x, int y) {
+        return RowMasks.collides(rows, rowBase(game), shape, x, y);
+    }
+
+    private BrickShape currentShape(int game) {
+        return ShapeTable.shape(get(game, BRICK), get(game, ROTATION));
+    }
+
+    private long rowBase(int game) {
+        return (long) game * rowsPerGame;
+    }
+
+    private int get(int game, int field) {
+        return scalars.getAtIndex(ValueLayout.JAVA_INT, (long) game * SCALARS + field);
+    }
+
+    private void set(int game, int field, int value) {
+        scalars.setAtIndex(ValueLayout.JAVA_INT, (long) game * SCALARS + field, value);
+    }
+
+    public int getBrick(int game) {
+        return get(game, BRICK);
+    }
+
+    public int getRotation(int game) {
+        return get(game, ROTATION);
+    }
+
+    public int getX(int game) {
+        return get(game, X);
+    }
+
+    public int getY(int game) {
+        return get(game, Y);
+    }
+
+    public int getScore(int game) {
+        return get(game, SCORE);
+    }
+
+    public int getLines(int game) {
+        return get(game, LINES);
+    }
+
+    public boolean isGameOver(int game) {
+        return get(game, GAME_OVER) != 0;
+    }
+
+    /**
+     * Checks whether a settled cell of one game is filled, for tests and rendering.
+     */
+    public boolean isOccupied(int game, int row, int col) {
+        return (rows.getAtIndex(ValueLayout.JAVA_INT, rowBase(game) + row) & RowMasks.cellBit(col)) != 0;
+    }
+
+    /**
+     * Frees the off-heap memory. The arena cannot be used afterwards.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
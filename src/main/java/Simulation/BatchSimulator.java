@@ -0,0 +1,148 @@
+package Simulation;
+
+import Model.BoardBackend;
+import Model.GameEngine;
+import Model.GameMode;
+import Model.VirtualClock;
+import Utilities.GameConstants;
+import com.comp2042.logic.bricks.BagBrickGenerator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Plays many seeded headless games of one mode across a work-stealing pool.
+ * The game range is split recursively, so idle workers steal halves of busy
+ * workers' ranges and long Zen games do not leave cores idle behind them.
+ * Every game has its own engine, virtual clock, generator and policy, and
+ * writes its results into its own slot, so workers share nothing while
+ * playing. Seeds are drawn up front, so results do not depend on scheduling.
+ */
+public final class BatchSimulator {
+
+    /** Ranges at or below this size are played by one task */
+    private static final int GAMES_PER_TASK = 4;
+
+    private final GameMode mode;
+    private final BoardBackend backend;
+    private final PolicyFactory policies;
+    private final int maxPieces;
+    private final long millisPerPiece;
+
+    /**
+     * @param mode rules every game is played by
+     * @param backend board storage for every game
+     * @param policies creates the player of each game
+     * @param maxPieces pieces after which a game still running is cut off, needed for Zen
+     * @param millisPerPiece game time that passes per piece, which drives gravity and the timers
+     */
+    public BatchSimulator(GameMode mode, BoardBackend backend, PolicyFactory policies,
+                          int maxPieces, long millisPerPiece) {
+        if (maxPieces < 1) {
+            throw new IllegalArgumentException("Piece limit must be positive: " + maxPieces);
+        }
+        this.mode = mode;
+        this.backend = backend;
+        this.policies = policies;
+        this.maxPieces = maxPieces;
+        this.millisPerPiece = millisPerPiece;
+    }
+
+    /**
+     * Plays a batch of games.
+     *
+     * @param pool the pool to run on
+     * @param games number of games
+     * @param seed root seed, the same seed gives the same results
+     * @return the per-game results
+     */
+    public SimulationResult run(ForkJoinPool pool, int games, long seed) {
+        return run(pool, games, seed, null);
+    }
+
+    /**
+     * Plays a batch of games and adds every lock and game to shared statistics.
+     *
+     * @param pool the pool to run on
+     * @param games number of games
+     * @param seed root seed, the same seed gives the same results
+     * @param statistics collector shared by all workers, or null for none
+     * @return the per-game results
+     */
+    public SimulationResult run(ForkJoinPool pool, int games, long seed, StatisticsCollector statistics) {
+        long[] seeds = new long[games];
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int g = 0; g < games; g++) {
+            seeds[g] = root.nextLong();
+        }
+        SimulationResult result = new SimulationResult(mode, games);
+        long start = System.nanoTime();
+        pool.invoke(new PlayRange(this, seeds, result, statistics, 0, games));
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Plays one game to its end or to the piece limit and records it.
+     */
+    private void play(int game, long seed, SimulationResult result, StatisticsCollector statistics) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        VirtualClock clock = new VirtualClock();
+        GameEngine engine = new GameEngine(mode,
+                backend.create(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH, new BagBrickGenerator(seeds.nextLong())),
+                clock);
+        Policy policy = policies.create(seeds.nextLong());
+        if (statistics != null) {
+            engine.setOnLock(lock -> statistics.recordLock(mode, lock));
+        }
+        int pieces = 0;
+        while (engine.isRunning() && pieces < maxPieces) {
+            policy.playPiece(engine);
+            pieces++;
+            clock.advance(millisPerPiece);
+            engine.update();
+        }
+        result.record(game, engine, pieces);
+        if (statistics != null) {
+            statistics.recordGame(engine);
+        }
+    }
+
+    /**
+     * Splits a range of games until it is small enough to play in one task.
+     * Never serialized, it only lives inside one pool invocation.
+     */
+    @SuppressWarnings("serial")
+    private static final class PlayRange extends RecursiveAction {
+        private final BatchSimulator simulator;
+        private final long[] seeds;
+        private final SimulationResult result;
+        private final StatisticsCollector statistics;
+        private final int from;
+        private final int to;
+
+        private PlayRange(BatchSimulator simulator, long[] seeds, SimulationResult result,
+                          StatisticsCollector statistics, int from, int to) {
+            this.simulator = simulator;
+            this.seeds = seeds;
+            this.result = result;
+            this.statistics = statistics;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                for (int g = from; g < to; g++) {
+                    simulator.play(g, seeds[g], result, statistics);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PlayRange(simulator, seeds, result, statistics, from, mid),
+                    new PlayRange(simulator, seeds, result, statistics, mid, to));
+        }
+    }
+}
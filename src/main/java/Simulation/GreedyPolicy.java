@@ -0,0 +1,150 @@
+package Simulation;
+
+import Model.Board;
+import Model.BoardSnapshot;
+import Model.GameEngine;
+import Model.PlacementFinder;
+import Model.SurfaceProfile;
+
+/**
+ * One-piece lookahead bot. Every rotation and column of the current brick is
+ * tried on the engine's own board between a snapshot and a restore, and the
+ * placement with the best weighted surface (height, lines, holes, bumpiness)
+ * is then played through the engine.
+ * With a {@link PlacementFinder} the candidates are every reachable resting
+ * placement instead, tucks and spins included. Its path is played up to the
+ * final drop, which is made a hard drop so the drop bonus is kept.
+ */
+public final class GreedyPolicy implements Policy {
+
+    private static final double AGGREGATE_HEIGHT_WEIGHT = -0.510066;
+    private static final double LINES_WEIGHT = 0.760666;
+    private static final double HOLES_WEIGHT = -0.35663;
+    private static final double BUMPINESS_WEIGHT = -0.184483;
+
+    /** Set when every reachable placement is searched, null for the column sweep */
+    private final PlacementFinder finder;
+    private byte[] path = new byte[0];
+
+    /**
+     * Creates a bot that tries every rotation at every column.
+     */
+    public GreedyPolicy() {
+        this(false);
+    }
+
+    /**
+     * @param allPlacements whether to search every reachable placement instead of sweeping columns
+     */
+    public GreedyPolicy(boolean allPlacements) {
+        finder = allPlacements ? new PlacementFinder(true) : null;
+    }
+
+    @Override
+    public void playPiece(GameEngine engine) {
+        if (finder != null) {
+            playBestPlacement(engine);
+            return;
+        }
+        Board board = engine.getBoard();
+        BoardSnapshot start = board.snapshot();
+        int rotations = board.getCurrentBrick().getRotationCount();
+
+        double bestValue = Double.NEGATIVE_INFINITY;
+        int bestRotation = 0;
+        int bestColumn = 0;
+        for (int r = 0; r < rotations; r++) {
+            for (int column = 0; ; column++) {
+                board.restore(start);
+                if (!reach(board, r, column)) {
+                    break;
+                }
+                board.hardDrop();
+                board.mergeBrickToBackground();
+                int lines = board.clearRows().getLinesRemoved();
+                double value = evaluate(board.getSurfaceProfile(), lines);
+                if (value > bestValue) {
+                    bestValue = value;
+                    bestRotation = r;
+                    bestColumn = column;
+                }
+            }
+        }
+        board.restore(start);
+        Policy.placeFromLeft(engine, bestRotation, bestColumn);
+    }
+
+    private void playBestPlacement(GameEngine engine) {
+        Board board = engine.getBoard();
+        BoardSnapshot start = board.snapshot();
+        int placements = finder.search(board);
+        double bestValue = Double.NEGATIVE_INFINITY;
+        int best = -1;
+        for (int p = 0; p < placements; p++) {
+            board.restore(start);
+            int length = followPath(p);
+            for (int i = 0; i < length; i++) {
+                PlacementFinder.apply(board, path[i]);
+            }
+            board.mergeBrickToBackground();
+            int lines = board.clearRows().getLinesRemoved();
+            double value = evaluate(board.getSurfaceProfile(), lines);
+            if (value > bestValue) {
+                bestValue = value;
+                best = p;
+            }
+        }
+        board.restore(start);
+        if (best >= 0) {
+            int length = followPath(best);
+            // A path ending in drops lands the same with a hard drop, which also scores
+            while (length > 0 && path[length - 1] == PlacementFinder.DOWN) {
+                length--;
+            }
+            for (int i = 0; i < length; i++) {
+                PlacementFinder.apply(engine, path[i]);
+            }
+        }
+        engine.hardDrop();
+    }
+
+    /**
+     * Loads the path to a placement into the reused path buffer.
+     *
+     * @return the path length
+     */
+    private int followPath(int placement) {
+        int length = finder.getPathLength(placement);
+        if (path.length < length) {
+            path = new byte[Math.max(length, path.length * 2)];
+        }
+        return finder.getPath(placement, path);
+    }
+
+    /**
+     * Moves the brick to a placement the same way {@link Policy#placeFromLeft} does.
+     *
+     * @return false if the brick cannot get that far from the wall
+     */
+    private static boolean reach(Board board, int rotations, int column) {
+        for (int r = 0; r < rotations; r++) {
+            board.rotateCounterClockwise();
+        }
+        while (board.moveBrickLeft()) {
+            // Slide to the wall
+        }
+        for (int c = 0; c < column; c++) {
+            if (!board.moveBrickRight()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double evaluate(SurfaceProfile profile, int lines) {
+        return AGGREGATE_HEIGHT_WEIGHT * profile.aggregateHeight()
+                + LINES_WEIGHT * lines
+                + HOLES_WEIGHT * profile.totalHoles()
+                + BUMPINESS_WEIGHT * profile.bumpiness();
+    }
+}
@@ -0,0 +1,243 @@
+package Simulation;
+
+import Model.AbstractBoard;
+import Model.KickTable;
+import Utilities.GameConstants;
+import Utilities.MatrixOperations;
+import Utilities.RowMasks;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.Arrays;
+
+/**
+ * Advances many independent games by one brick each per step.
+ * Game state is kept as parallel arrays (row masks, brick id, rotation, x, y,
+ * score, lines, game over) indexed by game, so a step is one tight loop over
+ * flat arrays instead of a walk over per-game board and controller objects.
+ * A step plays each action the way a player would on a single board: rotate,
+ * slide sideways until the target column or a wall, hard drop, lock, then spawn
+ * the next brick. Shapes come from the shared brick definitions and points from
+ * {@link MatrixOperations#scoreForLines(int)} plus the hard drop bonus, so scores
+ * match single-game play exactly.
+ */
+public final class LockstepEngine {
+
+    private final int games;
+    private final int height;
+    private final int width;
+    private final int rowsPerGame;
+    private final int emptyRow;
+    private final int spawnX;
+
+    private final int[] rows;
+    private final int[] brick;
+    private final int[] rotation;
+    private final int[] x;
+    private final int[] y;
+    private final int[] score;
+    private final int[] lines;
+    private final int[] lastLines;
+    private final boolean[] gameOver;
+
+    /**
+     * Creates the state arrays for a fixed number of games.
+     *
+     * @param games number of games advanced together
+     * @param height number of board rows
+     * @param width number of board columns, at most 24
+     */
+    public LockstepEngine(int games, int height, int width) {
+        ShapeTable.checkSize(height, width);
+        this.games = games;
+        this.height = height;
+        this.width = width;
+        this.rowsPerGame = height + RowMasks.FLOOR_ROWS;
+        this.emptyRow = RowMasks.emptyRow(width);
+        this.spawnX = AbstractBoard.spawnColumn(width);
+        rows = new int[games * rowsPerGame];
+        brick = new int[games];
+        rotation = new int[games];
+        x = new int[games];
+        y = new int[games];
+        score = new int[games];
+        lines = new int[games];
+        lastLines = new int[games];
+        gameOver = new boolean[games];
+    }
+
+    /**
+     * Packs a placement into one action: a rotation index and a target column.
+     *
+     * @param rotation how many times to rotate from the spawn rotation
+     * @param column target horizontal position of the brick matrix, may be negative
+     * @return the encoded action
+     */
+    public static int action(int rotation, int column) {
+        return (rotation << 16) | (column & 0xFFFF);
+    }
+
+    public static int actionRotation(int action) {
+        return action >>> 16;
+    }
+
+    public static int actionColumn(int action) {
+        return (short) action;
+    }
+
+    /**
+     * Empties every board and spawns each game's first brick.
+     *
+     * @param firstBricks brick id per game
+     */
+    public void reset(int[] firstBricks) {
+        for (int g = 0; g < games; g++) {
+            int base = g * rowsPerGame;
+            Arrays.fill(rows, base, base + height, emptyRow);
+            Arrays.fill(rows, base + height, base + rowsPerGame, RowMasks.FULL_ROW);
+        }
+        Arrays.fill(score, 0);
+        Arrays.fill(lines, 0);
+        Arrays.fill(lastLines, 0);
+        Arrays.fill(gameOver, false);
+        for (int g = 0; g < games; g++) {
+            spawn(g, firstBricks[g]);
+        }
+    }
+
+    /**
+     * Plays one brick in every game that is still running.
+     *
+     * @param actions encoded placement per game, see {@link #action(int, int)}
+     * @param nextBricks brick id to spawn afterwards, per game
+     * @return number of games still running
+     */
+    public int step(int[] actions, int[] nextBricks) {
+        int running = 0;
+        for (int g = 0; g < games; g++) {
+            lastLines[g] = 0;
+            if (gameOver[g]) {
+                continue;
+            }
+            int base = g * rowsPerGame;
+            int id = brick[g];
+            int rot = rotation[g];
+            int px = x[g];
+            int py = y[g];
+
+            // Rotate one step at a time with wall kicks, stopping at the first blocked rotation
+            int turns = actionRotation(actions[g]) % ShapeTable.rotationCount(id);
+            for (int t = 0; t < turns; t++) {
+                int next = KickTable.target(ShapeTable.rotationCount(id), rot, KickTable.COUNTER_CLOCKWISE);
+                BrickShape nextShape = ShapeTable.shape(id, next);
+                int kicks = KickTable.kickCount(id, rot, next);
+                int k = 0;
+                while (k < kicks && collides(base, nextShape,
+                        px + KickTable.kickX(id, rot, next, k), py + KickTable.kickY(id, rot, next, k))) {
+                    k++;
+                }
+                if (k == kicks) {
+                    break;
+                }
+                px += KickTable.kickX(id, rot, next, k);
+                py += KickTable.kickY(id, rot, next, k);
+                rot = next;
+            }
+            BrickShape shape = ShapeTable.shape(id, rot);
+
+            // Slide towards the target column until it is reached or blocked
+            int target = actionColumn(actions[g]);
+            int dx = Integer.signum(target - px);
+            while (px != target && !collides(base, shape, px + dx, py)) {
+                px += dx;
+            }
+
+            int startY = py;
+            while (!collides(base, shape, px, py + 1)) {
+                py++;
+            }
+
+            RowMasks.merge(rows, base, shape, px, py);
+            int cleared = RowMasks.clearRows(rows, base, Math.max(py + shape.minRow(), 0),
+                    Math.min(py + shape.maxRow(), height - 1), emptyRow);
+
+            score[g] += (py - startY) * GameConstants.HARD_DROP_POINTS_PER_ROW;
+            if (cleared > 0) {
+                score[g] += MatrixOperations.scoreForLines(cleared);
+                lines[g] += cleared;
+            }
+            lastLines[g] = cleared;
+
+            if (spawn(g, nextBricks[g])) {
+                running++;
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Spawns a brick, marking the game over when it does not fit.
+     *
+     * @return true if the game is still running
+     */
+    private boolean spawn(int game, int brickId) {
+        brick[game] = brickId;
+        rotation[game] = 0;
+        x[game] = spawnX;
+        y[game] = GameConstants.INITIAL_BRICK_Y;
+        if (collides(game * rowsPerGame, ShapeTable.shape(brickId, 0), spawnX, GameConstants.INITIAL_BRICK_Y)) {
+            gameOver[game] = true;
+            return false;
+        }
+        return true;
+    }
+
+    private boolean collides(int base, BrickShape shape, int px, int py) {
+        return RowMasks.collides(rows, base, shape, px, py);
+    }
+
+    public int getGameCount() {
+        return games;
+    }
+
+    public int getBrick(int game) {
+        return brick[game];
+    }
+
+    public int getRotation(int game) {
+        return rotation[game];
+    }
+
+    public int getX(int game) {
+        return x[game];
+    }
+
+    public int getY(int game) {
+        return y[game];
+    }
+
+    public int getScore(int game) {
+        return score[game];
+    }
+
+    public int getLines(int game) {
+        return lines[game];
+    }
+
+    /**
+     * Gets the lines cleared by the last step.
+     */
+    public int getLastLines(int game) {
+        return lastLines[game];
+    }
+
+    public boolean isGameOver(int game) {
+        return gameOver[game];
+    }
+
+    /**
+     * Checks whether a settled cell of one game is filled, for tests and rendering.
+     */
+    public boolean isOccupied(int game, int row, int col) {
+        return (rows[game * rowsPerGame + row] & RowMasks.cellBit(col)) != 0;
+    }
+}
@@ -0,0 +1,39 @@
+package Simulation;
+
+import Model.GameEngine;
+
+/**
+ * Decides the inputs for one brick of a simulated game.
+ * A policy instance plays a single game, so it may keep per-game state.
+ */
+public interface Policy {
+
+    /**
+     * Plays the current brick until it locks.
+     *
+     * @param engine the game, running when called
+     */
+    void playPiece(GameEngine engine);
+
+    /**
+     * Places the current brick by a fixed recipe: turn it counter-clockwise a
+     * number of times, push it against the left wall, step it right and hard drop.
+     * Counting from the wall makes a placement independent of the spawn column.
+     *
+     * @param engine the game
+     * @param rotations counter-clockwise turns from the spawn rotation
+     * @param column steps right from the left wall
+     */
+    static void placeFromLeft(GameEngine engine, int rotations, int column) {
+        for (int r = 0; r < rotations; r++) {
+            engine.rotateCounterClockwise();
+        }
+        while (engine.moveLeft()) {
+            // Slide to the wall
+        }
+        for (int c = 0; c < column && engine.moveRight(); c++) {
+            // Step out from the wall
+        }
+        engine.hardDrop();
+    }
+}
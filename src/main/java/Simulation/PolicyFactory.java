@@ -0,0 +1,14 @@
+package Simulation;
+
+/**
+ * Creates a fresh policy for each simulated game.
+ */
+@FunctionalInterface
+public interface PolicyFactory {
+
+    /**
+     * @param seed per-game seed for any randomness the policy uses
+     * @return a policy for one game
+     */
+    Policy create(long seed);
+}
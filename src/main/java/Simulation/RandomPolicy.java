@@ -0,0 +1,41 @@
+package Simulation;
+
+import Model.GameEngine;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays random but legal moves: an occasional hold, a random turn and a random
+ * sideways shift, then a hard drop. A cheap load generator for the engine.
+ */
+public final class RandomPolicy implements Policy {
+
+    /** One brick in this many is held first */
+    private static final int HOLD_ONE_IN = 10;
+    private static final int MAX_ROTATIONS = 4;
+    private static final int MAX_SHIFT = 5;
+
+    private final SplittableRandom random;
+
+    public RandomPolicy(long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void playPiece(GameEngine engine) {
+        if (random.nextInt(HOLD_ONE_IN) == 0) {
+            engine.hold();
+        }
+        for (int r = random.nextInt(MAX_ROTATIONS); r > 0; r--) {
+            engine.rotateCounterClockwise();
+        }
+        int shift = random.nextInt(-MAX_SHIFT, MAX_SHIFT + 1);
+        for (int s = 0; s < Math.abs(shift); s++) {
+            boolean moved = shift < 0 ? engine.moveLeft() : engine.moveRight();
+            if (!moved) {
+                break;
+            }
+        }
+        engine.hardDrop();
+    }
+}
@@ -0,0 +1,77 @@
+package Simulation;
+
+import Model.GameEngine;
+
+/**
+ * Replays a fixed list of placements, cycling when it runs out.
+ * Each entry packs a rotation and a column with {@link #placement(int, int)};
+ * the column is counted in steps from the left wall as in {@link Policy#placeFromLeft},
+ * unlike the absolute brick position a {@link LockstepEngine} action holds.
+ */
+public final class ScriptedPolicy implements Policy {
+
+    /** Bits of a placement holding the column */
+    private static final int COLUMN_BITS = 16;
+    private static final int COLUMN_MASK = (1 << COLUMN_BITS) - 1;
+
+    private final int[] placements;
+    private int next;
+
+    /**
+     * @param placements placements to replay, at least one; the array is not copied
+     */
+    public ScriptedPolicy(int[] placements) {
+        if (placements.length == 0) {
+            throw new IllegalArgumentException("Script needs at least one placement");
+        }
+        this.placements = placements;
+    }
+
+    /**
+     * Packs one scripted placement.
+     *
+     * @param rotation counter-clockwise turns from the spawn rotation
+     * @param column steps right from the left wall
+     * @return the packed placement
+     */
+    public static int placement(int rotation, int column) {
+        if (rotation < 0 || column < 0 || column > COLUMN_MASK) {
+            throw new IllegalArgumentException("Placement out of range: " + rotation + ":" + column);
+        }
+        return (rotation << COLUMN_BITS) | column;
+    }
+
+    public static int rotation(int placement) {
+        return placement >>> COLUMN_BITS;
+    }
+
+    public static int column(int placement) {
+        return placement & COLUMN_MASK;
+    }
+
+    /**
+     * Parses a script such as "0:0,1:4,2:8" into packed placements.
+     *
+     * @param script comma separated rotation:column pairs, both non-negative
+     * @return the packed placements
+     */
+    public static int[] parse(String script) {
+        String[] entries = script.split(",");
+        int[] placements = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            String[] parts = entries[i].trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected rotation:column, got " + entries[i]);
+            }
+            placements[i] = placement(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return placements;
+    }
+
+    @Override
+    public void playPiece(GameEngine engine) {
+        int placement = placements[next];
+        next = (next + 1) % placements.length;
+        Policy.placeFromLeft(engine, rotation(placement), column(placement));
+    }
+}
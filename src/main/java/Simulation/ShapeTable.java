@@ -0,0 +1,56 @@
+package Simulation;
+
+import Utilities.GameConstants;
+import Utilities.RowMasks;
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Brick rotations indexed by brick id and rotation for the batch engines.
+ * Built once from the shared {@link BrickShape}s, and collision, locking and
+ * clearing go through {@link RowMasks}, so the batch engines play exactly like
+ * the bitboard backend.
+ */
+final class ShapeTable {
+
+    /** Rotation slots reserved per brick, enough for every brick */
+    static final int MAX_ROTATIONS = 4;
+
+    private static final int[] ROTATION_COUNT = new int[BrickCatalog.size()];
+    private static final BrickShape[] SHAPES = new BrickShape[BrickCatalog.size() * MAX_ROTATIONS];
+
+    static {
+        for (int id = 0; id < BrickCatalog.size(); id++) {
+            int rotations = BrickCatalog.get(id).getRotationCount();
+            ROTATION_COUNT[id] = rotations;
+            for (int r = 0; r < rotations; r++) {
+                SHAPES[id * MAX_ROTATIONS + r] = BrickCatalog.get(id).getRotation(r);
+            }
+        }
+    }
+
+    private ShapeTable() {
+    }
+
+    /**
+     * Gets one rotation of a brick.
+     */
+    static BrickShape shape(int brickId, int rotation) {
+        return SHAPES[brickId * MAX_ROTATIONS + rotation];
+    }
+
+    static int rotationCount(int brickId) {
+        return ROTATION_COUNT[brickId];
+    }
+
+    static void checkSize(int height, int width) {
+        if (width < GameConstants.MIN_BOARD_SIZE || width > RowMasks.MAX_WIDTH) {
+            throw new IllegalArgumentException("Batch board width must be between "
+                    + GameConstants.MIN_BOARD_SIZE + " and " + RowMasks.MAX_WIDTH + ": " + width);
+        }
+        if (height < GameConstants.MIN_BOARD_SIZE) {
+            throw new IllegalArgumentException("Batch board height must be at least "
+                    + GameConstants.MIN_BOARD_SIZE + ": " + height);
+        }
+    }
+}
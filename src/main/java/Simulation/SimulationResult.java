@@ -0,0 +1,146 @@
+package Simulation;
+
+import Model.GameEngine;
+import Model.GameMode;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-game outcomes of one simulation batch, one slot per game.
+ * Each slot is written by exactly one worker, and the pool's completion
+ * makes every slot visible to the thread that reads the summary.
+ */
+public final class SimulationResult {
+
+    private final GameMode mode;
+    private final int[] scores;
+    private final int[] lines;
+    private final int[] levels;
+    private final int[] pieces;
+    private final GameEngine.State[] endStates;
+    private long elapsedNanos;
+
+    SimulationResult(GameMode mode, int games) {
+        this.mode = mode;
+        scores = new int[games];
+        lines = new int[games];
+        levels = new int[games];
+        pieces = new int[games];
+        endStates = new GameEngine.State[games];
+    }
+
+    void record(int game, GameEngine engine, int piecesPlayed) {
+        scores[game] = engine.getScore();
+        lines[game] = engine.getLevelManager().getTotalLinesCleared();
+        levels[game] = engine.getLevelManager().getCurrentLevel();
+        pieces[game] = piecesPlayed;
+        endStates[game] = engine.getState();
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public int getGames() {
+        return scores.length;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getTotalPieces() {
+        long total = 0;
+        for (int p : pieces) {
+            total += p;
+        }
+        return total;
+    }
+
+    public double getGamesPerSecond() {
+        return getGames() * 1e9 / elapsedNanos;
+    }
+
+    public double getPiecesPerSecond() {
+        return getTotalPieces() * 1e9 / elapsedNanos;
+    }
+
+    public Distribution getScores() {
+        return new Distribution(scores);
+    }
+
+    public Distribution getLines() {
+        return new Distribution(lines);
+    }
+
+    public Distribution getLevels() {
+        return new Distribution(levels);
+    }
+
+    /**
+     * Counts how the games ended; RUNNING means the piece limit cut the game off.
+     */
+    public Map<GameEngine.State, Integer> getEndStates() {
+        Map<GameEngine.State, Integer> counts = new EnumMap<>(GameEngine.State.class);
+        for (GameEngine.State state : endStates) {
+            counts.merge(state, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Summary statistics of one per-game value.
+     */
+    public static final class Distribution {
+        private final int[] sorted;
+        private final double mean;
+
+        private Distribution(int[] values) {
+            sorted = values.clone();
+            Arrays.sort(sorted);
+            long sum = 0;
+            for (int v : sorted) {
+                sum += v;
+            }
+            mean = sorted.length == 0 ? 0 : (double) sum / sorted.length;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public int getMin() {
+            return percentile(0);
+        }
+
+        public int getMax() {
+            return percentile(100);
+        }
+
+        /**
+         * Gets the nearest-rank percentile.
+         *
+         * @param p percentile from 0 to 100
+         * @return the value at that rank, 0 for an empty batch
+         */
+        public int percentile(double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p / 100 * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("mean %10.1f  min %7d  p10 %7d  p50 %7d  p90 %7d  max %7d",
+                    mean, getMin(), percentile(10), percentile(50), percentile(90), getMax());
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package Simulation;
+
+import Model.GameEngine;
+import Model.GameMode;
+import Model.LockResult;
+import Utilities.GameConstants;
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregate statistics shared by every worker of a simulation, across batches and modes.
+ * Counts line clears by size, locked pieces by type and game endings by cause in
+ * {@link LongAdder}s, which spread concurrent increments over striped cells.
+ * The landing heatmap and score histogram take one write per cell or game, so
+ * they go to a buffer owned by the recording thread instead, and buffers are
+ * only summed when read. Either way no worker ever waits on another.
+ * Read the results once the runs that record into it have finished.
+ */
+public final class StatisticsCollector {
+
+    /** Default score histogram bucket width, in points */
+    public static final int DEFAULT_SCORE_BUCKET_WIDTH = 500;
+    /** Default number of score buckets, the last one is open-ended */
+    public static final int DEFAULT_SCORE_BUCKETS = 200;
+
+    /** Line clear sizes from none to four lines */
+    private static final String[] CLEAR_NAMES = {"none", "single", "double", "triple", "tetris"};
+    /** Brick names in {@link BrickCatalog} id order */
+    private static final String[] PIECE_NAMES = {"I", "J", "L", "O", "S", "T", "Z"};
+    private static final GameEngine.State[] STATES = GameEngine.State.values();
+    private static final GameMode[] MODES = GameMode.values();
+
+    private final int height;
+    private final int width;
+    private final int scoreBucketWidth;
+    private final int scoreBuckets;
+    /** Counters indexed by mode, then by lines cleared, brick id or end state */
+    private final LongAdder[][] clears = adders(CLEAR_NAMES.length);
+    private final LongAdder[][] pieces = adders(BrickCatalog.size());
+    private final LongAdder[][] endStates = adders(STATES.length);
+    private final ThreadLocal<Buffer> buffer = ThreadLocal.withInitial(this::newBuffer);
+    private final Queue<Buffer> buffers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a collector for the standard board with the default score buckets.
+     */
+    public StatisticsCollector() {
+        this(GameConstants.BOARD_HEIGHT, GameConstants.BOARD_WIDTH,
+                DEFAULT_SCORE_BUCKET_WIDTH, DEFAULT_SCORE_BUCKETS);
+    }
+
+    /**
+     * @param height rows of the boards being played
+     * @param width columns of the boards being played
+     * @param scoreBucketWidth points covered by each score histogram bucket
+     * @param scoreBuckets number of score buckets, higher scores go to the last one
+     */
+    public StatisticsCollector(int height, int width, int scoreBucketWidth, int scoreBuckets) {
+        if (scoreBucketWidth < 1 || scoreBuckets < 1) {
+            throw new IllegalArgumentException("Score buckets must be positive: "
+                    + scoreBuckets + " of " + scoreBucketWidth);
+        }
+        this.height = height;
+        this.width = width;
+        this.scoreBucketWidth = scoreBucketWidth;
+        this.scoreBuckets = scoreBuckets;
+    }
+
+    private static LongAdder[][] adders(int count) {
+        LongAdder[][] adders = new LongAdder[MODES.length][count];
+        for (LongAdder[] row : adders) {
+            for (int i = 0; i < count; i++) {
+                row[i] = new LongAdder();
+            }
+        }
+        return adders;
+    }
+
+    /**
+     * Counters written only by the thread that created them.
+     */
+    private static final class Buffer {
+        /** Locked cells per mode, row-major over the board */
+        private final long[][] cells;
+        /** Finished games per mode and score bucket */
+        private final long[][] scores;
+
+        private Buffer(int cellCount, int scoreBuckets) {
+            cells = new long[MODES.length][cellCount];
+            scores = new long[MODES.length][scoreBuckets];
+        }
+    }
+
+    private Buffer newBuffer() {
+        Buffer created = new Buffer(height * width, scoreBuckets);
+        buffers.add(created);
+        return created;
+    }
+
+    /**
+     * Records one lock. Meant to be the engine's lock callback.
+     *
+     * @param mode the mode being played
+     * @param result the lock just made
+     */
+    public void recordLock(GameMode mode, LockResult result) {
+        int m = mode.ordinal();
+        clears[m][Math.min(result.getLinesCleared(), CLEAR_NAMES.length - 1)].increment();
+        BrickShape shape = result.getLockedShape();
+        pieces[m][shape.color() - 1].increment();
+        long[] cells = buffer.get().cells[m];
+        for (int i = 0; i < shape.cellCount(); i++) {
+            int row = result.getLockedY() + shape.cellRow(i);
+            int col = result.getLockedX() + shape.cellCol(i);
+            if (row >= 0 && row < height && col >= 0 && col < width) {
+                cells[row * width + col]++;
+            }
+        }
+    }
+
+    /**
+     * Records the outcome of one game once it has stopped.
+     *
+     * @param engine the finished or cut off game
+     */
+    public void recordGame(GameEngine engine) {
+        int m = engine.getGameMode().ordinal();
+        endStates[m][engine.getState().ordinal()].increment();
+        int bucket = Math.min(Math.max(engine.getScore(), 0) / scoreBucketWidth, scoreBuckets - 1);
+        buffer.get().scores[m][bucket]++;
+    }
+
+    public long getGames(GameMode mode) {
+        return sum(endStates[mode.ordinal()]);
+    }
+
+    /**
+     * Gets the number of locks that cleared a given number of lines.
+     *
+     * @param lines from 0 to 4
+     */
+    public long getClears(GameMode mode, int lines) {
+        return clears[mode.ordinal()][lines].sum();
+    }
+
+    public long getPieces(GameMode mode, int brickId) {
+        return pieces[mode.ordinal()][brickId].sum();
+    }
+
+    /**
+     * Gets how often games ended a certain way; RUNNING means the piece limit cut them off.
+     */
+    public long getEndStates(GameMode mode, GameEngine.State state) {
+        return endStates[mode.ordinal()][state.ordinal()].sum();
+    }
+
+    /**
+     * Gets how many locked cells landed on each board cell.
+     *
+     * @return a new matrix indexed by row, then column
+     */
+    public long[][] getHeatmap(GameMode mode) {
+        long[][] heatmap = new long[height][width];
+        for (Buffer b : buffers) {
+            long[] cells = b.cells[mode.ordinal()];
+            for (int row = 0; row < height; row++) {
+                for (int col = 0; col < width; col++) {
+                    heatmap[row][col] += cells[row * width + col];
+                }
+            }
+        }
+        return heatmap;
+    }
+
+    /**
+     * Gets the number of games per score bucket; bucket i starts at i * bucket width.
+     *
+     * @return a new array of bucket counts
+     */
+    public long[] getScoreHistogram(GameMode mode) {
+        long[] histogram = new long[scoreBuckets];
+        for (Buffer b : buffers) {
+            long[] scores = b.scores[mode.ordinal()];
+            for (int i = 0; i < scoreBuckets; i++) {
+                histogram[i] += scores[i];
+            }
+        }
+        return histogram;
+    }
+
+    private static long sum(LongAdder[] adders) {
+        long total = 0;
+        for (LongAdder adder : adders) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Writes every statistic as CSV files into a directory, one row per mode that
+     * was played: line_clears.csv, pieces.csv, end_states.csv, scores.csv with one
+     * row per non-empty bucket, and heatmap.csv with one row per mode and board row.
+     *
+     * @param directory created if missing, existing files are replaced
+     * @throws IOException if a file cannot be written
+     */
+    public void writeCsv(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve("line_clears.csv"))) {
+            writeCounters(out, CLEAR_NAMES, clears);
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve("pieces.csv"))) {
+            writeCounters(out, PIECE_NAMES, pieces);
+        }
+        String[] stateNames = new String[STATES.length];
+        for (GameEngine.State state : STATES) {
+            stateNames[state.ordinal()] = state.name();
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve("end_states.csv"))) {
+            writeCounters(out, stateNames, endStates);
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve("scores.csv"))) {
+            out.write("mode,score_from,score_to,games\n");
+            for (GameMode mode : playedModes()) {
+                long[] histogram = getScoreHistogram(mode);
+                for (int i = 0; i < scoreBuckets; i++) {
+                    if (histogram[i] == 0) {
+                        continue;
+                    }
+                    // The last bucket has no upper bound
+                    String to = i == scoreBuckets - 1 ? "" : String.valueOf((long) (i + 1) * scoreBucketWidth - 1);
+                    out.write(mode.name() + "," + (long) i * scoreBucketWidth + "," + to + "," + histogram[i] + "\n");
+                }
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve("heatmap.csv"))) {
+            out.write("mode,row");
+            for (int col = 0; col < width; col++) {
+                out.write(",c" + col);
+            }
+            out.write("\n");
+            for (GameMode mode : playedModes()) {
+                long[][] heatmap = getHeatmap(mode);
+                for (int row = 0; row < height; row++) {
+                    out.write(mode.name() + "," + row);
+                    for (int col = 0; col < width; col++) {
+                        out.write("," + heatmap[row][col]);
+                    }
+                    out.write("\n");
+                }
+            }
+        }
+    }
+
+    private void writeCounters(BufferedWriter out, String[] names, LongAdder[][] counters) throws IOException {
+        out.write("mode");
+        for (String name : names) {
+            out.write("," + name);
+        }
+        out.write("\n");
+        for (GameMode mode : playedModes()) {
+            out.write(mode.name());
+            for (LongAdder counter : counters[mode.ordinal()]) {
+                out.write("," + counter.sum());
+            }
+            out.write("\n");
+        }
+    }
+
+    private List<GameMode> playedModes() {
+        List<GameMode> played = new ArrayList<>();
+        for (GameMode mode : MODES) {
+            if (getGames(mode) > 0) {
+                played.add(mode);
+            }
+        }
+        return played;
+    }
+}
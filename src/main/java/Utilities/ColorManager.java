@@ -19,7 +19,8 @@ public class ColorManager {
             Color.YELLOW,        // 4
             Color.RED,           // 5
             Color.BEIGE,         // 6
-            Color.BURLYWOOD      // 7
+            Color.BURLYWOOD,     // 7
+            Color.GRAY           // 8 garbage
     };
 /**
  * Retrieves colour for a given color code.
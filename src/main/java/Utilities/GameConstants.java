@@ -18,12 +18,21 @@ public final class GameConstants {
     public static final int VERTICAL_OFFSET = -42;
     /** Fall speed in ms */
     public static final int FALL_SPEED_MS = 400;
+    /** Interval of the GUI game loop in ms, gravity and timers run on the engine clock */
+    public static final int FRAME_MS = 16;
     /** Duration notifications*/
     public static final int NOTIFICATION_DURATION_MS = 2000;
 
     /** Board dimension for height and width*/
     public static final int BOARD_WIDTH = 10;
     public static final int BOARD_HEIGHT = 25;
+    /** Rows at the top of the board that bricks spawn into and the GUI does not draw */
+    public static final int HIDDEN_ROWS = 2;
+    /** Smallest board side that still fits every brick rotation */
+    public static final int MIN_BOARD_SIZE = 4;
+
+    /** Colour code used for garbage rows pushed in from the bottom */
+    public static final int GARBAGE_COLOR = 8;
 
     /** Initial vertical and horizonal position for new bricks */
     public static final int INITIAL_BRICK_X = 4;
@@ -31,6 +40,8 @@ public final class GameConstants {
 
     /** Scording system */
     public static final int SCORE_PER_LINE = 50;
+    /** Points for every row a brick falls during a hard drop */
+    public static final int HARD_DROP_POINTS_PER_ROW = 2;
     /** How many multiplier if you get multiple lines*/
     public static final int SCORE_MULTIPLIER_DOUBLE = 3;
     public static final int SCORE_MULTIPLIER_TRIPLE = 5;
@@ -1,10 +1,9 @@
 package Utilities;
 
 import Data.ClearRow;
+import com.comp2042.logic.bricks.BrickShape;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -48,6 +47,27 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a precomputed brick rotation intersects with the game board or goes out of bounds.
+     * Only the occupied cells of the shape are visited.
+     *
+     * @param matrix the game board matrix
+     * @param shape the brick rotation
+     * @param x the horizontal position to check
+     * @param y the vertical position to check
+     * @return true if there is an intersection or out of bounds, false otherwise
+     */
+    public static boolean intersect(final int[][] matrix, final BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.cellCount(); i++) {
+            int targetX = x + shape.cellCol(i);
+            int targetY = y + shape.cellRow(i);
+            if (targetY < 0 || checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static boolean checkOutOfBound(int[][] matrix, int targetX, int targetY) {
         boolean returnValue = true;
         if (targetX >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
@@ -82,45 +102,95 @@ public class MatrixOperations {
     }
 
     /**
-     * Checks for and removes completed rows from the game board.
-     * Calculates score bonus based on number of lines cleared.
-     * Score formula: 50 * linesCleared^2
+     * Writes a brick rotation into the board without copying it.
      *
-     * @param matrix the game board to check
-     * @return ClearRow object containing cleared line count, updated matrix, and score bonus
+     * @param matrix the game board matrix, modified in place
+     * @param shape the brick rotation
+     * @param x the horizontal position of the brick
+     * @param y the vertical position of the brick
      */
+    public static void mergeInPlace(int[][] matrix, BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.cellCount(); i++) {
+            matrix[y + shape.cellRow(i)][x + shape.cellCol(i)] = shape.color();
+        }
+    }
 
-
+    /**
+     * Checks for and removes completed rows from the whole game board.
+     * The board is compacted in place.
+     *
+     * @param matrix the game board to check, modified in place
+     * @return ClearRow object containing cleared line count, cleared row indices, and score bonus
+     */
     public static ClearRow checkRemoving(final int[][] matrix) {
-        int[][] tmp = new int[matrix.length][matrix[0].length];
-        Deque<int[]> newRows = new ArrayDeque<>();
-        List<Integer> clearedRows = new ArrayList<>();
-
-        for (int i = 0; i < matrix.length; i++) {
-            int[] tmpRow = new int[matrix[i].length];
-            boolean rowToClear = true;
-            for (int j = 0; j < matrix[0].length; j++) {
-                if (matrix[i][j] == 0) {
-                    rowToClear = false;
-                }
-                tmpRow[j] = matrix[i][j];
-            }
-            if (rowToClear) {
-                clearedRows.add(i);
-            } else {
-                newRows.add(tmpRow);
+        return clearRows(matrix, 0, matrix.length - 1);
+    }
+
+    /**
+     * Removes completed rows, looking only between fromRow and toRow.
+     * Used after a lock, when only the rows the brick touched can have become full.
+     * Surviving rows above are shifted down by moving row references, and the
+     * cleared row arrays are zeroed and reused at the top, so nothing is allocated
+     * when no line is cleared.
+     *
+     * @param matrix the game board, modified in place
+     * @param fromRow first row to check (inclusive)
+     * @param toRow last row to check (inclusive)
+     * @return ClearRow object containing cleared line count, cleared row indices, and score bonus
+     */
+    public static ClearRow clearRows(final int[][] matrix, int fromRow, int toRow) {
+        fromRow = Math.max(fromRow, 0);
+        toRow = Math.min(toRow, matrix.length - 1);
+        int cleared = 0;
+        for (int i = fromRow; i <= toRow; i++) {
+            if (isRowFull(matrix[i])) {
+                cleared++;
             }
         }
-        for (int i = matrix.length - 1; i >= 0; i--) {
-            int[] row = newRows.pollLast();
-            if (row != null) {
-                tmp[i] = row;
-            } else {
-                break;
+        if (cleared == 0) {
+            return ClearRow.NONE;
+        }
+
+        int[] clearedRows = new int[cleared];
+        int[][] freed = new int[cleared][];
+        int found = cleared;
+        int write = toRow;
+        for (int read = toRow; read >= 0; read--) {
+            int[] row = matrix[read];
+            if (read >= fromRow && isRowFull(row)) {
+                found--;
+                clearedRows[found] = read;
+                freed[found] = row;
+                continue;
             }
+            matrix[write--] = row;
         }
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+        for (int i = 0; i < cleared; i++) {
+            Arrays.fill(freed[i], 0);
+            matrix[i] = freed[i];
+        }
+        return new ClearRow(cleared, clearedRows, scoreForLines(cleared));
+    }
+
+    /**
+     * Checks whether every cell of a row is filled.
+     *
+     * @param row one board row
+     * @return true if the row has no empty cell
+     */
+    public static boolean isRowFull(int[] row) {
+        return RowKernels.get().isRowFull(row);
+    }
+
+    /**
+     * Calculates the score bonus for clearing lines at once.
+     * Score formula: 50 * linesCleared^2
+     *
+     * @param linesCleared number of lines cleared by one lock
+     * @return the score bonus
+     */
+    public static int scoreForLines(int linesCleared) {
+        return GameConstants.SCORE_PER_LINE * linesCleared * linesCleared;
     }
 
     /**
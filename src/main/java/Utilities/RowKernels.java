@@ -0,0 +1,59 @@
+package Utilities;
+
+/**
+ * Inner loops over whole board rows, so wide boards can test many cells per step.
+ * Two implementations exist: a SIMD one built on the incubating Vector API and
+ * a plain scalar one. {@link #get()} picks the vector kernels when the
+ * jdk.incubator.vector module is present at runtime (start the JVM with
+ * --add-modules jdk.incubator.vector) and falls back to the scalar ones otherwise.
+ * Setting the system property tetris.kernels=scalar forces the fallback.
+ */
+public interface RowKernels {
+
+    /**
+     * Checks whether every cell of a colour row is filled.
+     *
+     * @param row one board row of colour codes
+     * @return true if the row has no empty cell
+     */
+    boolean isRowFull(int[] row);
+
+    /**
+     * Gets the kernels selected for this JVM.
+     */
+    static RowKernels get() {
+        return Selection.KERNELS;
+    }
+
+    /**
+     * Gets the name of the selected implementation, for benchmark reports.
+     */
+    static String implementationName() {
+        return get().getClass().getSimpleName();
+    }
+
+    /**
+     * Lazy holder that resolves the implementation once.
+     */
+    final class Selection {
+        private static final String VECTOR_MODULE = "jdk.incubator.vector";
+        private static final RowKernels KERNELS = select();
+
+        private Selection() {
+        }
+
+        private static RowKernels select() {
+            if ("scalar".equalsIgnoreCase(System.getProperty("tetris.kernels"))
+                    || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+                return new ScalarRowKernels();
+            }
+            try {
+                // Loaded by name so the Vector API classes are never linked without the module
+                return (RowKernels) Class.forName("Utilities.VectorRowKernels")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return new ScalarRowKernels();
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package Utilities;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Board rows packed as int bitmasks, shared by the bitboard backend and the batch engines.
+ * Column c of the playfield is bit c + {@link #WALL_BITS}; the bits on either side
+ * are always set and act as walls, and {@link #FLOOR_ROWS} solid rows below the
+ * playfield act as the floor, so collision needs no bounds checks beyond the shift.
+ * A board is a run of consecutive masks starting at a base index, either in an
+ * int array or in a memory segment; both forms follow the same rules.
+ */
+public final class RowMasks {
+
+    /** Number of wall bits kept on each side of the playfield inside a row mask */
+    public static final int WALL_BITS = 4;
+    /** Widest board that still leaves room for the walls in an int */
+    public static final int MAX_WIDTH = Integer.SIZE - 2 * WALL_BITS;
+    /** Largest valid shift for a 4 wide brick row mask */
+    public static final int MAX_SHIFT = Integer.SIZE - 4;
+    /** A row with every bit set, used for the floor and for line-full tests */
+    public static final int FULL_ROW = -1;
+    /** Solid rows below the playfield, enough for the tallest brick */
+    public static final int FLOOR_ROWS = 4;
+
+    private RowMasks() {
+    }
+
+    /**
+     * Gets the mask of an empty playfield row, walls set.
+     */
+    public static int emptyRow(int width) {
+        return ~(((1 << width) - 1) << WALL_BITS);
+    }
+
+    /**
+     * Gets the bit of one playfield column.
+     */
+    public static int cellBit(int col) {
+        return 1 << (col + WALL_BITS);
+    }
+
+    /**
+     * Checks whether a brick rotation overlaps the walls, floor or settled cells.
+     *
+     * @param rows row masks of one or more boards
+     * @param base index of the board's top row
+     * @param shape the brick rotation
+     * @param x the horizontal position of the brick matrix
+     * @param y the vertical position of the brick matrix, at most the board height
+     * @return true if the brick cannot be placed there
+     */
+    public static boolean collides(int[] rows, int base, BrickShape shape, int x, int y) {
+        int shift = x + WALL_BITS;
+        if (shift < 0 || shift > MAX_SHIFT || y + shape.minRow() < 0) {
+            return true;
+        }
+        for (int r = shape.minRow(); r <= shape.maxRow(); r++) {
+            if ((rows[base + y + r] & (shape.rowMask(r) << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same as {@link #collides(int[], int, BrickShape, int, int)} for masks held in a segment.
+     */
+    public static boolean collides(MemorySegment rows, long base, BrickShape shape, int x, int y) {
+        int shift = x + WALL_BITS;
+        if (shift < 0 || shift > MAX_SHIFT || y + shape.minRow() < 0) {
+            return true;
+        }
+        for (int r = shape.minRow(); r <= shape.maxRow(); r++) {
+            if ((rows.getAtIndex(ValueLayout.JAVA_INT, base + y + r) & (shape.rowMask(r) << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the bits of a brick rotation that does not collide.
+     */
+    public static void merge(int[] rows, int base, BrickShape shape, int x, int y) {
+        int shift = x + WALL_BITS;
+        for (int r = shape.minRow(); r <= shape.maxRow(); r++) {
+            rows[base + y + r] |= shape.rowMask(r) << shift;
+        }
+    }
+
+    /**
+     * Same as {@link #merge(int[], int, BrickShape, int, int)} for masks held in a segment.
+     */
+    public static void merge(MemorySegment rows, long base, BrickShape shape, int x, int y) {
+        int shift = x + WALL_BITS;
+        for (int r = shape.minRow(); r <= shape.maxRow(); r++) {
+            long index = base + y + r;
+            rows.setAtIndex(ValueLayout.JAVA_INT, index,
+                    rows.getAtIndex(ValueLayout.JAVA_INT, index) | (shape.rowMask(r) << shift));
+        }
+    }
+
+    /**
+     * Removes full rows between from and to and shifts every row above them down.
+     * The rows freed at the top are set to the empty mask.
+     *
+     * @param rows row masks of one or more boards, modified in place
+     * @param base index of the board's top row
+     * @param from first board row that may be full (inclusive)
+     * @param to last board row that may be full (inclusive)
+     * @param emptyRow the mask of an empty row, see {@link #emptyRow(int)}
+     * @return the number of rows removed
+     */
+    public static int clearRows(int[] rows, int base, int from, int to, int emptyRow) {
+        // Most locks clear nothing, so only walk the rows above once a full one is known
+        while (to >= from && rows[base + to] != FULL_ROW) {
+            to--;
+        }
+        if (to < from) {
+            return 0;
+        }
+        int write = to;
+        for (int read = to; read >= 0; read--) {
+            int row = rows[base + read];
+            if (read >= from && row == FULL_ROW) {
+                continue;
+            }
+            rows[base + write--] = row;
+        }
+        for (int r = write; r >= 0; r--) {
+            rows[base + r] = emptyRow;
+        }
+        return write + 1;
+    }
+
+    /**
+     * Same as {@link #clearRows(int[], int, int, int, int)} for masks held in a segment.
+     */
+    public static int clearRows(MemorySegment rows, long base, int from, int to, int emptyRow) {
+        while (to >= from && rows.getAtIndex(ValueLayout.JAVA_INT, base + to) != FULL_ROW) {
+            to--;
+        }
+        if (to < from) {
+            return 0;
+        }
+        int write = to;
+        for (int read = to; read >= 0; read--) {
+            int row = rows.getAtIndex(ValueLayout.JAVA_INT, base + read);
+            if (read >= from && row == FULL_ROW) {
+                continue;
+            }
+            rows.setAtIndex(ValueLayout.JAVA_INT, base + write--, row);
+        }
+        for (int r = write; r >= 0; r--) {
+            rows.setAtIndex(ValueLayout.JAVA_INT, base + r, emptyRow);
+        }
+        return write + 1;
+    }
+}
@@ -0,0 +1,17 @@
+package Utilities;
+
+/**
+ * Plain loop implementation of {@link RowKernels}, used when the Vector API is not available.
+ */
+final class ScalarRowKernels implements RowKernels {
+
+    @Override
+    public boolean isRowFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
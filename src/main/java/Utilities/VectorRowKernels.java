@@ -0,0 +1,32 @@
+package Utilities;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of {@link RowKernels} on the incubating Vector API.
+ * Each step compares a full vector of cells and the remainder is finished with scalar code.
+ * Only loaded through {@link RowKernels#get()} once the module is known to be present.
+ */
+final class VectorRowKernels implements RowKernels {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean isRowFull(int[] row) {
+        int i = 0;
+        int bound = SPECIES.loopBound(row.length);
+        for (; i < bound; i += SPECIES.length()) {
+            if (IntVector.fromArray(SPECIES, row, i).compare(VectorOperators.EQ, 0).anyTrue()) {
+                return false;
+            }
+        }
+        for (; i < row.length; i++) {
+            if (row[i] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
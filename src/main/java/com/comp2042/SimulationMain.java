@@ -0,0 +1,126 @@
+package com.comp2042;
+
+import Model.BoardBackend;
+import Model.GameEngine;
+import Model.GameMode;
+import Simulation.BatchSimulator;
+import Simulation.GreedyPolicy;
+import Simulation.PolicyFactory;
+import Simulation.RandomPolicy;
+import Simulation.ScriptedPolicy;
+import Simulation.SimulationResult;
+import Simulation.StatisticsCollector;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless entry point that plays seeded games on every core without the GUI,
+ * for capacity planning and catching engine regressions.
+ *
+ * Usage: SimulationMain [--games N] [--mode ZEN|SPRINT|BLITZ|CHAOS|ALL]
+ *        [--policy random|scripted|bot|bot-bfs] [--script r:c,r:c,...] [--seed S]
+ *        [--pieces MAX] [--ms-per-piece MS] [--threads T] [--backend NAME]
+ *        [--stats DIR]
+ *
+ * With --stats, line clears, pieces, endings, score histograms and landing
+ * heatmaps of every mode are written as CSV files into DIR.
+ */
+public final class SimulationMain {
+
+    private SimulationMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int games = 1000;
+        String modeName = "ALL";
+        String policyName = "bot";
+        String script = "0:0,0:4,1:8,0:2,1:6";
+        long seed = 42L;
+        int maxPieces = 500;
+        long millisPerPiece = 250;
+        int threads = Runtime.getRuntime().availableProcessors();
+        BoardBackend backend = BoardBackend.SIMPLE;
+        Path statsDirectory = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(value);
+                case "--mode" -> modeName = value.toUpperCase();
+                case "--policy" -> policyName = value;
+                case "--script" -> script = value;
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--pieces" -> maxPieces = Integer.parseInt(value);
+                case "--ms-per-piece" -> millisPerPiece = Long.parseLong(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--backend" -> backend = BoardBackend.valueOf(value.toUpperCase());
+                case "--stats" -> statsDirectory = Path.of(value);
+                default -> {
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(1);
+                }
+            }
+            i++;
+        }
+
+        PolicyFactory policies = policy(policyName, script);
+        List<GameMode> modes = new ArrayList<>();
+        if (modeName.equals("ALL")) {
+            modes.addAll(List.of(GameMode.values()));
+        } else {
+            modes.add(GameMode.valueOf(modeName));
+        }
+
+        System.out.printf("%d games per mode, policy %s, %d threads, seed %d, backend %s%n",
+                games, policyName, threads, seed, backend);
+        StatisticsCollector statistics = statsDirectory != null ? new StatisticsCollector() : null;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (GameMode mode : modes) {
+                BatchSimulator simulator = new BatchSimulator(mode, backend, policies, maxPieces, millisPerPiece);
+                print(simulator.run(pool, games, seed, statistics));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        if (statistics != null) {
+            statistics.writeCsv(statsDirectory);
+            System.out.println("\nStatistics written to " + statsDirectory.toAbsolutePath());
+        }
+    }
+
+    private static PolicyFactory policy(String name, String script) {
+        switch (name) {
+            case "random":
+                return RandomPolicy::new;
+            case "scripted":
+                int[] placements = ScriptedPolicy.parse(script);
+                return seed -> new ScriptedPolicy(placements);
+            case "bot":
+                return seed -> new GreedyPolicy();
+            case "bot-bfs":
+                return seed -> new GreedyPolicy(true);
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + name);
+        }
+    }
+
+    private static void print(SimulationResult result) {
+        System.out.printf("%n%s: %d games in %.2f s, %.0f games/s, %.0f pieces/s%n",
+                result.getMode(), result.getGames(), result.getElapsedNanos() / 1e9,
+                result.getGamesPerSecond(), result.getPiecesPerSecond());
+        System.out.println("  score  " + result.getScores());
+        System.out.println("  lines  " + result.getLines());
+        System.out.println("  level  " + result.getLevels());
+        StringBuilder ends = new StringBuilder("  ended ");
+        for (Map.Entry<GameEngine.State, Integer> entry : result.getEndStates().entrySet()) {
+            ends.append(' ').append(entry.getKey()).append(' ').append(entry.getValue());
+        }
+        System.out.println(ends);
+    }
+}
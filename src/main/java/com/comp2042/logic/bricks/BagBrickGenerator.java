@@ -0,0 +1,99 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded 7-bag generator: every run of seven pieces holds each brick once.
+ * All 5040 orders of a bag are precomputed, so drawing a bag is one random
+ * index into the table instead of a shuffle.
+ */
+public class BagBrickGenerator extends SeededBrickGenerator {
+
+    private static final int BAG_SIZE = BrickCatalog.size();
+    /** Every ordering of the brick ids, BAG_SIZE entries per permutation */
+    private static final byte[] PERMUTATIONS = buildPermutations();
+    private static final int PERMUTATION_COUNT = PERMUTATIONS.length / BAG_SIZE;
+
+    public BagBrickGenerator(long seed) {
+        this(seed, DEFAULT_LOOKAHEAD);
+    }
+
+    /**
+     * @param seed seed of the whole piece sequence
+     * @param lookahead number of upcoming pieces to keep queued at least
+     */
+    public BagBrickGenerator(long seed, int lookahead) {
+        super(seed, lookahead, BAG_SIZE);
+    }
+
+    /**
+     * Creates a generator seeded from a parent stream, so parallel games can
+     * fork independent sequences from one root seed.
+     *
+     * @param random the stream to take the seed from
+     */
+    public BagBrickGenerator(SplittableRandom random) {
+        this(random.nextLong());
+    }
+
+    private BagBrickGenerator(BagBrickGenerator source) {
+        super(source);
+    }
+
+    @Override
+    protected void appendBlock(SplittableRandom random, PieceQueue queue) {
+        int offset = random.nextInt(PERMUTATION_COUNT) * BAG_SIZE;
+        for (int i = 0; i < BAG_SIZE; i++) {
+            queue.add(PERMUTATIONS[offset + i]);
+        }
+    }
+
+    @Override
+    public BrickGenerator copy() {
+        return new BagBrickGenerator(this);
+    }
+
+    /**
+     * Lists the permutations of the brick ids in lexicographic order.
+     */
+    private static byte[] buildPermutations() {
+        int count = 1;
+        for (int i = 2; i <= BAG_SIZE; i++) {
+            count *= i;
+        }
+        byte[] table = new byte[count * BAG_SIZE];
+        byte[] order = new byte[BAG_SIZE];
+        for (int i = 0; i < BAG_SIZE; i++) {
+            order[i] = (byte) i;
+        }
+        for (int p = 0; p < count; p++) {
+            System.arraycopy(order, 0, table, p * BAG_SIZE, BAG_SIZE);
+            nextPermutation(order);
+        }
+        return table;
+    }
+
+    private static void nextPermutation(byte[] order) {
+        int i = order.length - 2;
+        while (i >= 0 && order[i] >= order[i + 1]) {
+            i--;
+        }
+        if (i < 0) {
+            return;
+        }
+        int j = order.length - 1;
+        while (order[j] <= order[i]) {
+            j--;
+        }
+        swap(order, i, j);
+        for (int a = i + 1, b = order.length - 1; a < b; a++, b--) {
+            swap(order, a, b);
+        }
+    }
+
+    private static void swap(byte[] order, int a, int b) {
+        byte t = order[a];
+        order[a] = order[b];
+        order[b] = t;
+    }
+}
@@ -4,7 +4,41 @@ import java.util.List;
 
 public interface Brick {
 
-    List<int[][]> getShapeMatrix();
+    /**
+     * Gets the shared, precomputed rotations of this brick.
+     *
+     * @return the immutable rotation table
+     */
+    RotationTable getRotationTable();
+
+    /**
+     * Gets one rotation by index without copying.
+     *
+     * @param index the rotation index
+     * @return the shared rotation
+     */
+    default BrickShape getRotation(int index) {
+        return getRotationTable().get(index);
+    }
+
+    /**
+     * Gets the number of rotation states.
+     *
+     * @return the rotation count
+     */
+    default int getRotationCount() {
+        return getRotationTable().size();
+    }
+
+    /**
+     * Gets mutable copies of every rotation matrix.
+     * Prefer {@link #getRotation(int)} on hot paths.
+     *
+     * @return a new list of rotation matrices
+     */
+    default List<int[][]> getShapeMatrix() {
+        return getRotationTable().toMatrixList();
+    }
 
     /**
      * Gets the current shape matrix for display.
@@ -13,10 +47,9 @@ public interface Brick {
      * @return 2D array representing the brick shape
      */
     default int[][] getShape() {
-        List<int[][]> shapeMatrix = getShapeMatrix();
-        if (shapeMatrix == null || shapeMatrix.isEmpty()) {
+        if (getRotationCount() == 0) {
             return new int[0][0];
         }
-        return shapeMatrix.get(0);  // Return first rotation
+        return getRotation(0).toMatrix();  // Return first rotation
     }
-}
\ No newline at end of file
+}
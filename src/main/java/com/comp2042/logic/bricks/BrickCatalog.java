@@ -0,0 +1,54 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+/**
+ * Fixed list of every brick type, indexed by a small integer id.
+ * The id of a brick is its colour code minus one, so ids run I, J, L, O, S, T, Z from 0 to 6.
+ * Batch engines and piece sequence files store these ids instead of brick objects.
+ */
+public final class BrickCatalog {
+
+    private static final List<Brick> BRICKS = List.of(
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(),
+            new SBrick(), new TBrick(), new ZBrick());
+
+    private BrickCatalog() {
+    }
+
+    /**
+     * Gets the number of brick types.
+     */
+    public static int size() {
+        return BRICKS.size();
+    }
+
+    /**
+     * Gets the shared brick with an id.
+     *
+     * @param id brick id from 0 to size() - 1
+     * @return the brick
+     */
+    public static Brick get(int id) {
+        return BRICKS.get(id);
+    }
+
+    /**
+     * Gets the id of a brick.
+     *
+     * @param brick any brick from this catalogue or a generator
+     * @return the brick id
+     */
+    public static int idOf(Brick brick) {
+        return brick.getRotation(0).color() - 1;
+    }
+
+    /**
+     * Gets every brick in id order.
+     *
+     * @return an unmodifiable list
+     */
+    public static List<Brick> all() {
+        return BRICKS;
+    }
+}
@@ -1,18 +1,48 @@
 package com.comp2042.logic.bricks;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public interface BrickGenerator {
 
+    /** Upcoming pieces kept queued unless a generator is asked for more */
+    int DEFAULT_LOOKAHEAD = 5;
+
     Brick getBrick();
 
     Brick getNextBrick();
 
+    /**
+     * Gets the upcoming pieces as a live read-only view.
+     * It is at least as deep as the lookahead the generator was built with
+     * and follows the queue as pieces are drawn.
+     *
+     * @return the preview of upcoming pieces
+     */
+    PiecePreview getPreview();
+
     /**
      * Gets multiple upcoming pieces for preview.
+     * Copies out of {@link #getPreview()}; hot paths should read the preview directly.
      *
      * @param count number of pieces to preview
      * @return list of upcoming bricks
      */
-    List<Brick> getNextBricks(int count);
+    default List<Brick> getNextBricks(int count) {
+        PiecePreview preview = getPreview();
+        int n = Math.min(count, preview.size());
+        List<Brick> bricks = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            bricks.add(preview.brickAt(i));
+        }
+        return bricks;
+    }
+
+    /**
+     * Creates an independent generator with the same upcoming queue.
+     * Bricks are immutable, so the queue entries themselves are shared.
+     *
+     * @return a copy that can be advanced without affecting this one
+     */
+    BrickGenerator copy();
 }
@@ -0,0 +1,161 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+
+/**
+ * One precomputed rotation of a brick.
+ * Holds the occupied cells, bounding box, bottom contour and row bitmasks
+ * so hot paths can read them by index without copying matrices.
+ * Instances are immutable and shared by every brick of the same type.
+ */
+public final class BrickShape {
+
+    private final int[][] matrix;
+    private final int[] cellRows;
+    private final int[] cellCols;
+    private final int[] bottom;
+    private final int[] rowMasks;
+    private final int minRow;
+    private final int maxRow;
+    private final int minCol;
+    private final int maxCol;
+    private final int color;
+
+    BrickShape(int[][] source) {
+        int size = source.length;
+        matrix = new int[size][];
+        rowMasks = new int[size];
+        bottom = new int[size];
+        int count = 0;
+        int top = size, low = -1, left = size, right = -1, code = 0;
+        for (int r = 0; r < size; r++) {
+            matrix[r] = source[r].clone();
+            for (int c = 0; c < size; c++) {
+                if (source[r][c] != 0) {
+                    count++;
+                }
+            }
+        }
+        cellRows = new int[count];
+        cellCols = new int[count];
+        Arrays.fill(bottom, -1);
+        int i = 0;
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (matrix[r][c] == 0) {
+                    continue;
+                }
+                cellRows[i] = r;
+                cellCols[i] = c;
+                i++;
+                rowMasks[r] |= 1 << c;
+                bottom[c] = r;
+                top = Math.min(top, r);
+                low = Math.max(low, r);
+                left = Math.min(left, c);
+                right = Math.max(right, c);
+                code = matrix[r][c];
+            }
+        }
+        minRow = top;
+        maxRow = low;
+        minCol = left;
+        maxCol = right;
+        color = code;
+    }
+
+    /**
+     * Gets the side length of the square shape matrix.
+     */
+    public int size() {
+        return matrix.length;
+    }
+
+    /**
+     * Gets the colour code of a cell, 0 when empty.
+     *
+     * @param row local row inside the shape matrix
+     * @param col local column inside the shape matrix
+     * @return the colour code at that cell
+     */
+    public int cell(int row, int col) {
+        return matrix[row][col];
+    }
+
+    /**
+     * Gets the number of occupied cells.
+     */
+    public int cellCount() {
+        return cellRows.length;
+    }
+
+    /**
+     * Gets the local row of the i-th occupied cell.
+     */
+    public int cellRow(int index) {
+        return cellRows[index];
+    }
+
+    /**
+     * Gets the local column of the i-th occupied cell.
+     */
+    public int cellCol(int index) {
+        return cellCols[index];
+    }
+
+    /**
+     * Gets the lowest occupied local row in a column, or -1 if the column is empty.
+     *
+     * @param col local column inside the shape matrix
+     * @return the bottom contour for that column
+     */
+    public int bottom(int col) {
+        return bottom[col];
+    }
+
+    /**
+     * Gets the bitmask of a local row, bit n set when column n is occupied.
+     *
+     * @param row local row inside the shape matrix
+     * @return the row mask
+     */
+    public int rowMask(int row) {
+        return rowMasks[row];
+    }
+
+    public int minRow() {
+        return minRow;
+    }
+
+    public int maxRow() {
+        return maxRow;
+    }
+
+    public int minCol() {
+        return minCol;
+    }
+
+    public int maxCol() {
+        return maxCol;
+    }
+
+    /**
+     * Gets the colour code shared by every cell of this shape.
+     */
+    public int color() {
+        return color;
+    }
+
+    /**
+     * Creates a mutable copy of the shape matrix.
+     *
+     * @return a new matrix the caller may modify
+     */
+    public int[][] toMatrix() {
+        int[][] copy = new int[matrix.length][];
+        for (int r = 0; r < matrix.length; r++) {
+            copy[r] = matrix[r].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Generator that plays back a {@link PieceSequenceFile}.
+ * Each generator keeps its own read position, so parallel games can read one
+ * mapped file from different offsets. Reaching the end wraps to the start.
+ */
+public class MappedBrickGenerator implements BrickGenerator {
+
+    private final PieceSequenceFile file;
+    /** Index of the next piece to enqueue */
+    private long position;
+    private final PieceQueue nextBricks;
+
+    /**
+     * @param file the mapped sequence, shared with other generators
+     * @param start index of the first piece to play
+     */
+    public MappedBrickGenerator(PieceSequenceFile file, long start) {
+        this(file, start, DEFAULT_LOOKAHEAD);
+    }
+
+    /**
+     * @param file the mapped sequence, shared with other generators
+     * @param start index of the first piece to play
+     * @param lookahead number of upcoming pieces to keep queued
+     */
+    public MappedBrickGenerator(PieceSequenceFile file, long start, int lookahead) {
+        this.file = file;
+        position = Math.floorMod(start, file.size());
+        nextBricks = new PieceQueue(lookahead);
+        for (int i = 0; i < lookahead; i++) {
+            enqueue();
+        }
+    }
+
+    private MappedBrickGenerator(MappedBrickGenerator source) {
+        file = source.file;
+        position = source.position;
+        nextBricks = new PieceQueue(source.nextBricks);
+    }
+
+    private void enqueue() {
+        nextBricks.add(file.idAt(position));
+        position++;
+        if (position == file.size()) {
+            position = 0;
+        }
+    }
+
+    @Override
+    public Brick getBrick() {
+        Brick brick = BrickCatalog.get(nextBricks.take());
+        enqueue();
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return nextBricks.brickAt(0);
+    }
+
+    @Override
+    public PiecePreview getPreview() {
+        return nextBricks.view();
+    }
+
+    @Override
+    public BrickGenerator copy() {
+        return new MappedBrickGenerator(this);
+    }
+}
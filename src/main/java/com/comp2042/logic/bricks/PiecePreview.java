@@ -0,0 +1,32 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Read-only indexed view of the upcoming pieces of a generator.
+ * Index 0 is the next piece to be drawn. Reading it never allocates, so
+ * search code can look ahead as far as the generator keeps pieces queued.
+ */
+public interface PiecePreview {
+
+    /**
+     * Gets the number of upcoming pieces that can be read.
+     */
+    int size();
+
+    /**
+     * Gets the id of an upcoming piece.
+     *
+     * @param index 0 for the next piece, up to size() - 1
+     * @return the brick id from {@link BrickCatalog}
+     */
+    int idAt(int index);
+
+    /**
+     * Gets an upcoming piece.
+     *
+     * @param index 0 for the next piece, up to size() - 1
+     * @return the shared brick instance
+     */
+    default Brick brickAt(int index) {
+        return BrickCatalog.get(idAt(index));
+    }
+}
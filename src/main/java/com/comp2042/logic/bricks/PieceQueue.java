@@ -0,0 +1,107 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Fixed-capacity ring buffer of brick ids used as a generator's upcoming queue.
+ * The capacity is rounded up to a power of two so wrapping is a mask, and
+ * adding, taking and reading pieces never allocate.
+ * Generators hand out {@link #view()} rather than the queue itself, so callers
+ * can read the upcoming pieces but not add or take them.
+ */
+public final class PieceQueue implements PiecePreview {
+
+    private final byte[] ids;
+    private final int mask;
+    private final PiecePreview view = new View();
+    private int head;
+    private int size;
+
+    /**
+     * @param capacity the most pieces the queue has to hold at once
+     */
+    public PieceQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+        }
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity) {
+            length <<= 1;
+        }
+        ids = new byte[length];
+        mask = length - 1;
+    }
+
+    /**
+     * Creates an independent queue holding the same pieces.
+     */
+    public PieceQueue(PieceQueue source) {
+        ids = source.ids.clone();
+        mask = source.mask;
+        head = source.head;
+        size = source.size;
+    }
+
+    /**
+     * Appends a piece to the back of the queue.
+     *
+     * @param id brick id from {@link BrickCatalog}
+     */
+    public void add(int id) {
+        if (size == ids.length) {
+            throw new IllegalStateException("Piece queue is full");
+        }
+        ids[(head + size) & mask] = (byte) id;
+        size++;
+    }
+
+    /**
+     * Removes the piece at the front of the queue.
+     *
+     * @return its brick id
+     */
+    public int take() {
+        if (size == 0) {
+            throw new IllegalStateException("Piece queue is empty");
+        }
+        int id = ids[head];
+        head = (head + 1) & mask;
+        size--;
+        return id;
+    }
+
+    /**
+     * Gets a read-only view of this queue that follows its contents.
+     *
+     * @return the same view on every call
+     */
+    public PiecePreview view() {
+        return view;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int idAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Preview index " + index + " out of " + size);
+        }
+        return ids[(head + index) & mask];
+    }
+
+    /**
+     * Reads through to the queue without exposing its mutators.
+     */
+    private final class View implements PiecePreview {
+        @Override
+        public int size() {
+            return PieceQueue.this.size();
+        }
+
+        @Override
+        public int idAt(int index) {
+            return PieceQueue.this.idAt(index);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.comp2042.logic.bricks;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Pre-generated piece sequence stored as brick ids packed 3 bits per piece.
+ * The file is memory-mapped read-only into a shared arena, so any number of
+ * threads can read it at their own offsets without copying it onto the heap.
+ * Layout, little-endian: magic, format version, piece count, then the packed
+ * ids with piece i at bit 3 * i, followed by one padding byte so every piece
+ * can be read with a single two-byte load.
+ */
+public final class PieceSequenceFile implements AutoCloseable {
+
+    private static final int MAGIC = 0x51535054; // "TPSQ" read as little-endian bytes
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int BITS_PER_PIECE = 3;
+    private static final int PIECE_MASK = (1 << BITS_PER_PIECE) - 1;
+
+    private static final ValueLayout.OfInt INT_LE = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG_LE = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfShort SHORT_LE = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Arena arena;
+    private final MemorySegment data;
+    private final long pieces;
+
+    private PieceSequenceFile(Arena arena, MemorySegment data, long pieces) {
+        this.arena = arena;
+        this.data = data;
+        this.pieces = pieces;
+    }
+
+    /**
+     * Maps a sequence file for reading.
+     *
+     * @param path the file written by {@link #write(Path, long, BrickGenerator)}
+     * @return the mapped file, to be closed once every reader is done
+     * @throws IOException if the file cannot be read or is not a sequence file
+     */
+    public static PieceSequenceFile open(Path path) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            if (data.byteSize() < HEADER_BYTES || data.get(INT_LE, 0) != MAGIC) {
+                throw new IOException("Not a piece sequence file: " + path);
+            }
+            if (data.get(INT_LE, 4) != VERSION) {
+                throw new IOException("Unsupported piece sequence version " + data.get(INT_LE, 4) + ": " + path);
+            }
+            long pieces = data.get(LONG_LE, 8);
+            if (pieces < 1 || data.byteSize() < HEADER_BYTES + packedBytes(pieces)) {
+                throw new IOException("Truncated piece sequence file: " + path);
+            }
+            return new PieceSequenceFile(arena, data, pieces);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a sequence file with pieces drawn from a generator.
+     *
+     * @param path the file to create or replace
+     * @param pieces number of pieces to write
+     * @param source generator to draw the pieces from, a seeded one makes the file reproducible
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, long pieces, BrickGenerator source) throws IOException {
+        if (pieces < 1) {
+            throw new IllegalArgumentException("Piece count must be positive: " + pieces);
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putLong(pieces);
+            out.write(header.array());
+
+            int pending = 0;
+            int pendingBits = 0;
+            for (long i = 0; i < pieces; i++) {
+                pending |= BrickCatalog.idOf(source.getBrick()) << pendingBits;
+                pendingBits += BITS_PER_PIECE;
+                if (pendingBits >= Byte.SIZE) {
+                    out.write(pending);
+                    pending >>>= Byte.SIZE;
+                    pendingBits -= Byte.SIZE;
+                }
+            }
+            if (pendingBits > 0) {
+                out.write(pending);
+            }
+            // Padding so the last piece can be read with a two-byte load
+            out.write(0);
+        }
+    }
+
+    /**
+     * Gets the number of bytes after the header, padding included.
+     */
+    private static long packedBytes(long pieces) {
+        return (pieces * BITS_PER_PIECE + Byte.SIZE - 1) / Byte.SIZE + 1;
+    }
+
+    /**
+     * Gets the number of pieces in the file.
+     */
+    public long size() {
+        return pieces;
+    }
+
+    /**
+     * Reads one piece. Safe to call from any thread while the file is open.
+     *
+     * @param index piece index from 0 to size() - 1
+     * @return the brick id from {@link BrickCatalog}
+     */
+    public int idAt(long index) {
+        if (index < 0 || index >= pieces) {
+            throw new IndexOutOfBoundsException("Piece " + index + " out of " + pieces);
+        }
+        long bit = index * BITS_PER_PIECE;
+        int pair = data.get(SHORT_LE, HEADER_BYTES + (bit >>> 3)) & 0xFFFF;
+        return (pair >>> (bit & 7)) & PIECE_MASK;
+    }
+
+    /**
+     * Unmaps the file. No reader may use it afterwards.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
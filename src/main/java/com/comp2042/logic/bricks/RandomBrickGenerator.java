@@ -1,66 +1,58 @@
 package com.comp2042.logic.bricks;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class RandomBrickGenerator implements BrickGenerator {
 
-    private final List<Brick> brickList;
-    private final Deque<Brick> nextBricks = new ArrayDeque<>();
-    private static final int PREVIEW_COUNT = 5; // Number of pieces to show
+    private final int lookahead;
+    private final PieceQueue nextBricks;
 
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        brickList.add(new IBrick());
-        brickList.add(new JBrick());
-        brickList.add(new LBrick());
-        brickList.add(new OBrick());
-        brickList.add(new SBrick());
-        brickList.add(new TBrick());
-        brickList.add(new ZBrick());
+        this(DEFAULT_LOOKAHEAD);
+    }
+
+    /**
+     * @param lookahead number of upcoming pieces to keep queued
+     */
+    public RandomBrickGenerator(int lookahead) {
+        this.lookahead = lookahead;
+        nextBricks = new PieceQueue(lookahead);
 
         // Fill queue with initial pieces
-        for (int i = 0; i < PREVIEW_COUNT; i++) {
-            nextBricks.add(getRandomBrick());
+        for (int i = 0; i < lookahead; i++) {
+            nextBricks.add(getRandomId());
         }
     }
 
-    private Brick getRandomBrick() {
-        return brickList.get(ThreadLocalRandom.current().nextInt(brickList.size()));
+    private RandomBrickGenerator(RandomBrickGenerator source) {
+        lookahead = source.lookahead;
+        nextBricks = new PieceQueue(source.nextBricks);
+    }
+
+    private static int getRandomId() {
+        return ThreadLocalRandom.current().nextInt(BrickCatalog.size());
     }
 
     @Override
     public Brick getBrick() {
         // Add new piece to queue when one is taken
-        nextBricks.add(getRandomBrick());
-        return nextBricks.poll();
+        Brick brick = BrickCatalog.get(nextBricks.take());
+        nextBricks.add(getRandomId());
+        return brick;
     }
 
     @Override
     public Brick getNextBrick() {
-        return nextBricks.peek();
+        return nextBricks.brickAt(0);
     }
 
-    /**
-     * Gets all upcoming pieces for preview display.
-     *
-     * @param count number of pieces to preview (2-5)
-     * @return list of upcoming bricks
-     */
-    public List<Brick> getNextBricks(int count) {
-        List<Brick> preview = new ArrayList<>();
-        int previewCount = Math.min(count, nextBricks.size());
-
-        int i = 0;
-        for (Brick brick : nextBricks) {
-            if (i >= previewCount) break;
-            preview.add(brick);
-            i++;
-        }
+    @Override
+    public PiecePreview getPreview() {
+        return nextBricks.view();
+    }
 
-        return preview;
+    @Override
+    public BrickGenerator copy() {
+        return new RandomBrickGenerator(this);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable table of every rotation of one brick type.
+ * Built once per brick class and shared by all instances.
+ */
+public final class RotationTable {
+
+    private final BrickShape[] rotations;
+
+    private RotationTable(BrickShape[] rotations) {
+        this.rotations = rotations;
+    }
+
+    /**
+     * Precomputes a rotation table from shape matrices given in rotation order.
+     *
+     * @param matrices the shape matrix of each rotation
+     * @return the rotation table
+     */
+    static RotationTable of(int[][]... matrices) {
+        BrickShape[] shapes = new BrickShape[matrices.length];
+        for (int i = 0; i < matrices.length; i++) {
+            shapes[i] = new BrickShape(matrices[i]);
+        }
+        return new RotationTable(shapes);
+    }
+
+    /**
+     * Gets the number of rotations.
+     */
+    public int size() {
+        return rotations.length;
+    }
+
+    /**
+     * Gets a rotation by index without copying.
+     *
+     * @param index the rotation index
+     * @return the shared rotation
+     */
+    public BrickShape get(int index) {
+        return rotations[index];
+    }
+
+    /**
+     * Creates mutable copies of every rotation matrix.
+     *
+     * @return a new list of matrices
+     */
+    public List<int[][]> toMatrixList() {
+        List<int[][]> list = new ArrayList<>(rotations.length);
+        for (BrickShape shape : rotations) {
+            list.add(shape.toMatrix());
+        }
+        return list;
+    }
+}
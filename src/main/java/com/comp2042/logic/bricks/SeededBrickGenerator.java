@@ -0,0 +1,87 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Base for generators whose piece sequence is fixed by a seed.
+ * Pieces are drawn in blocks, each block from its own SplittableRandom seeded
+ * from the generator seed and the block number. The whole state is therefore
+ * the seed, a block counter and the queue, so copies and snapshots replay
+ * exactly the same pieces as the original. Whole blocks are queued ahead until
+ * at least the requested lookahead is available. The queue is first filled
+ * on first use rather than in the constructor, so {@link #appendBlock} never
+ * runs before a subclass has been constructed.
+ */
+public abstract class SeededBrickGenerator implements BrickGenerator {
+
+    /**
+     * Odd step between block seeds. It is unrelated to the SplittableRandom gamma,
+     * so neighbouring blocks and neighbouring seeds do not share draws.
+     */
+    private static final long BLOCK_STRIDE = 0x2545F4914F6CDD1DL;
+
+    private final long seed;
+    private final int lookahead;
+    private long blocks;
+    private final PieceQueue nextBricks;
+
+    /**
+     * @param seed seed of the whole piece sequence
+     * @param lookahead number of upcoming pieces to keep queued at least
+     * @param blockSize most pieces appended by one {@link #appendBlock} call
+     */
+    protected SeededBrickGenerator(long seed, int lookahead, int blockSize) {
+        if (lookahead < 1) {
+            throw new IllegalArgumentException("Lookahead must be positive: " + lookahead);
+        }
+        this.seed = seed;
+        this.lookahead = lookahead;
+        nextBricks = new PieceQueue(lookahead - 1 + blockSize);
+    }
+
+    protected SeededBrickGenerator(SeededBrickGenerator source) {
+        seed = source.seed;
+        lookahead = source.lookahead;
+        blocks = source.blocks;
+        nextBricks = new PieceQueue(source.nextBricks);
+    }
+
+    /**
+     * Appends one block of pieces to the queue.
+     *
+     * @param random a stream used only for this block
+     * @param queue the queue to append to
+     */
+    protected abstract void appendBlock(SplittableRandom random, PieceQueue queue);
+
+    private void fill() {
+        while (nextBricks.size() < lookahead) {
+            appendBlock(new SplittableRandom(seed + blocks * BLOCK_STRIDE), nextBricks);
+            blocks++;
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public Brick getBrick() {
+        fill();
+        Brick brick = BrickCatalog.get(nextBricks.take());
+        fill();
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        fill();
+        return nextBricks.brickAt(0);
+    }
+
+    @Override
+    public PiecePreview getPreview() {
+        fill();
+        return nextBricks.view();
+    }
+}
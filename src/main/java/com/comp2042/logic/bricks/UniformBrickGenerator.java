@@ -0,0 +1,51 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator that picks every piece uniformly and independently,
+ * the reproducible counterpart of {@link RandomBrickGenerator}.
+ */
+public class UniformBrickGenerator extends SeededBrickGenerator {
+
+    /** Pieces drawn from each block stream */
+    private static final int BLOCK_SIZE = 7;
+
+    public UniformBrickGenerator(long seed) {
+        this(seed, DEFAULT_LOOKAHEAD);
+    }
+
+    /**
+     * @param seed seed of the whole piece sequence
+     * @param lookahead number of upcoming pieces to keep queued at least
+     */
+    public UniformBrickGenerator(long seed, int lookahead) {
+        super(seed, lookahead, BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a generator seeded from a parent stream, so parallel games can
+     * fork independent sequences from one root seed.
+     *
+     * @param random the stream to take the seed from
+     */
+    public UniformBrickGenerator(SplittableRandom random) {
+        this(random.nextLong());
+    }
+
+    private UniformBrickGenerator(UniformBrickGenerator source) {
+        super(source);
+    }
+
+    @Override
+    protected void appendBlock(SplittableRandom random, PieceQueue queue) {
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            queue.add(random.nextInt(BrickCatalog.size()));
+        }
+    }
+
+    @Override
+    public BrickGenerator copy() {
+        return new UniformBrickGenerator(this);
+    }
+}
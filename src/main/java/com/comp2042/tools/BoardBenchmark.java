@@ -0,0 +1,191 @@
+package com.comp2042.tools;
+
+import Data.ClearRow;
+import Model.Board;
+import Model.BoardBackend;
+import Model.BitboardBoard;
+import Simulation.BatchArena;
+import Utilities.RowKernels;
+import com.comp2042.logic.bricks.BagBrickGenerator;
+import com.comp2042.logic.bricks.BrickCatalog;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.MappedBrickGenerator;
+import com.comp2042.logic.bricks.PieceSequenceFile;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Command line benchmark that reports lock throughput for every backend as the board grows.
+ * Each run drops random bricks at random columns and rotations, hard drops them,
+ * merges and clears, and wipes the board when a brick can no longer spawn.
+ * Pieces come from a seeded 7-bag generator, or from a piece sequence file when
+ * one is given, so every backend and every machine sees the same sequence.
+ * Bricks are spread over the whole width, so sideways moves grow with the width
+ * while collision and line clears stay proportional to the brick.
+ * The ARENA row plays the same moves in an off-heap {@link BatchArena}, spread
+ * round-robin over many games at once; its heap column should stay near zero.
+ *
+ * Usage: BoardBenchmark [locksPerRun] [seed] [pieceFile]
+ */
+public final class BoardBenchmark {
+
+    /** Board sizes as {height, width}, from the classic board up to mega-well sizes */
+    private static final int[][] SIZES = {
+            {25, 10}, {200, 10}, {2000, 10}, {200, 24}, {2000, 64}, {4000, 256}, {4000, 512}
+    };
+    /** Boards larger than this are skipped for the dense backends */
+    private static final long DENSE_CELL_LIMIT = 1_000_000;
+    /** Games played side by side in the batch arena */
+    private static final int ARENA_GAMES = 1024;
+
+    private BoardBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int locks = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        try (PieceSequenceFile pieces = args.length > 2 ? PieceSequenceFile.open(Path.of(args[2])) : null) {
+            run(locks, seed, pieces);
+        }
+    }
+
+    private static void run(int locks, long seed, PieceSequenceFile pieces) {
+
+        System.out.println("Row kernels: " + RowKernels.implementationName());
+        System.out.printf("%-12s %8s %6s %14s %10s %12s%n", "backend", "height", "width", "locks/s", "lines", "heap KiB");
+        for (int[] size : SIZES) {
+            int height = size[0];
+            int width = size[1];
+            for (BoardBackend backend : BoardBackend.values()) {
+                if (!supports(backend, height, width)) {
+                    continue;
+                }
+                // Warm up on the same size so the timed run measures compiled code
+                run(backend, height, width, locks / 4, seed, pieces);
+                long heapBefore = usedHeap();
+                long start = System.nanoTime();
+                Result result = run(backend, height, width, locks, seed, pieces);
+                long elapsed = System.nanoTime() - start;
+                long heapAfter = usedHeap(result.board);
+                System.out.printf("%-12s %8d %6d %14.0f %10d %12d%n", backend, height, width,
+                        locks * 1e9 / elapsed, result.lines, Math.max(0, heapAfter - heapBefore) / 1024);
+            }
+            if (width <= BatchArena.MAX_WIDTH) {
+                try (BatchArena arena = new BatchArena(ARENA_GAMES, height, width)) {
+                    run(arena, locks / 4, seed, pieces);
+                    long heapBefore = usedHeap();
+                    long start = System.nanoTime();
+                    long lines = run(arena, locks, seed, pieces);
+                    long elapsed = System.nanoTime() - start;
+                    long heapAfter = usedHeap();
+                    System.out.printf("%-12s %8d %6d %14.0f %10d %12d%n", "ARENA", height, width,
+                            locks * 1e9 / elapsed, lines, Math.max(0, heapAfter - heapBefore) / 1024);
+                }
+            }
+        }
+    }
+
+    private static boolean supports(BoardBackend backend, int height, int width) {
+        if (backend == BoardBackend.BITBOARD && width > BitboardBoard.MAX_WIDTH) {
+            return false;
+        }
+        return backend == BoardBackend.SPARSE || (long) height * width <= DENSE_CELL_LIMIT;
+    }
+
+    private static Result run(BoardBackend backend, int height, int width, int locks, long seed,
+                              PieceSequenceFile pieces) {
+        Random random = new Random(seed);
+        BrickGenerator generator = pieces != null ? new MappedBrickGenerator(pieces, 0) : new BagBrickGenerator(seed);
+        Board board = backend.create(height, width, generator);
+        board.newGame();
+        long lines = 0;
+        for (int i = 0; i < locks; i++) {
+            int rotations = random.nextInt(4);
+            for (int r = 0; r < rotations; r++) {
+                board.rotateLeftBrick();
+            }
+            int shift = random.nextInt(width) - width / 2;
+            for (int m = 0; m < Math.abs(shift); m++) {
+                boolean moved = shift < 0 ? board.moveBrickLeft() : board.moveBrickRight();
+                if (!moved) {
+                    break;
+                }
+            }
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            ClearRow clearRow = board.clearRows();
+            lines += clearRow.getLinesRemoved();
+            if (board.createNewBrick()) {
+                board.clearBoard();
+                board.createNewBrick();
+            }
+        }
+        return new Result(board, lines);
+    }
+
+    /**
+     * Plays the benchmark moves on every game of an arena in turn.
+     *
+     * @return lines cleared over all games
+     */
+    private static long run(BatchArena arena, int locks, long seed, PieceSequenceFile pieces) {
+        Random random = new Random(seed);
+        BrickGenerator generator = pieces != null ? new MappedBrickGenerator(pieces, 0) : new BagBrickGenerator(seed);
+        int games = arena.getCapacity();
+        int width = arena.getWidth();
+        arena.reset(games);
+        for (int g = 0; g < games; g++) {
+            arena.spawn(g, BrickCatalog.idOf(generator.getBrick()));
+        }
+        long lines = 0;
+        for (int i = 0; i < locks; i++) {
+            int game = i % games;
+            int rotations = random.nextInt(4);
+            for (int r = 0; r < rotations; r++) {
+                arena.rotate(game);
+            }
+            int shift = random.nextInt(width) - width / 2;
+            for (int m = 0; m < Math.abs(shift); m++) {
+                boolean moved = shift < 0 ? arena.moveLeft(game) : arena.moveRight(game);
+                if (!moved) {
+                    break;
+                }
+            }
+            arena.hardDrop(game);
+            lines += arena.lock(game);
+            if (arena.spawn(game, BrickCatalog.idOf(generator.getBrick()))) {
+                arena.clearBoard(game);
+                arena.spawn(game, BrickCatalog.idOf(generator.getBrick()));
+            }
+        }
+        return lines;
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Measures the heap while the board is still reachable.
+     */
+    private static long usedHeap(Board keepAlive) {
+        long used = usedHeap();
+        Reference.reachabilityFence(keepAlive);
+        return used;
+    }
+
+    private static final class Result {
+        private final Board board;
+        private final long lines;
+
+        private Result(Board board, long lines) {
+            this.board = board;
+            this.lines = lines;
+        }
+    }
+}
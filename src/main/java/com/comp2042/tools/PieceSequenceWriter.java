@@ -0,0 +1,44 @@
+package com.comp2042.tools;
+
+import com.comp2042.logic.bricks.BagBrickGenerator;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.PieceSequenceFile;
+import com.comp2042.logic.bricks.UniformBrickGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command line tool that writes a piece sequence file from a seed, so benchmark
+ * runs on different machines can replay exactly the same pieces.
+ *
+ * Usage: PieceSequenceWriter file [pieces] [seed] [bag|uniform]
+ */
+public final class PieceSequenceWriter {
+
+    private PieceSequenceWriter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: PieceSequenceWriter file [pieces] [seed] [bag|uniform]");
+            System.exit(1);
+        }
+        Path path = Path.of(args[0]);
+        long pieces = args.length > 1 ? Long.parseLong(args[1]) : 10_000_000L;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        String kind = args.length > 3 ? args[3] : "bag";
+
+        BrickGenerator generator = switch (kind) {
+            case "bag" -> new BagBrickGenerator(seed);
+            case "uniform" -> new UniformBrickGenerator(seed);
+            default -> throw new IllegalArgumentException("Unknown generator: " + kind);
+        };
+        long start = System.nanoTime();
+        PieceSequenceFile.write(path, pieces, generator);
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("Wrote %d %s pieces (seed %d) to %s, %d bytes in %.1f ms%n",
+                pieces, kind, seed, path, Files.size(path), elapsed / 1e6);
+    }
+}